@@ -0,0 +1,46 @@
+package com.jobboard.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobboard.web.AdaptiveConcurrencyLimit;
+import com.jobboard.web.AdmissionControlFilter;
+import com.jobboard.web.ClientRateLimiter;
+import com.jobboard.web.ConnectionPoolMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(name = "jobboard.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            ClientRateLimiter clientRateLimiter,
+            AdaptiveConcurrencyLimit concurrencyLimit,
+            ConnectionPoolMonitor connectionPoolMonitor,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${jobboard.admission.pool-wait-threshold:5}") int poolWaitThreshold,
+            @Value("${jobboard.admission.retry-after:PT1S}") Duration retryAfter) {
+        Gauge.builder("jobboard.admission.limit", concurrencyLimit, AdaptiveConcurrencyLimit::limit)
+                .register(meterRegistry);
+        Gauge.builder("jobboard.admission.in.flight", concurrencyLimit, AdaptiveConcurrencyLimit::inFlight)
+                .register(meterRegistry);
+        Gauge.builder("jobboard.admission.pool.awaiting", connectionPoolMonitor,
+                        ConnectionPoolMonitor::threadsAwaitingConnection)
+                .register(meterRegistry);
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(clientRateLimiter, concurrencyLimit, connectionPoolMonitor,
+                        meterRegistry, objectMapper, poolWaitThreshold, retryAfter));
+        registration.addUrlPatterns("/api/jobs/*", "/api/companies/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobboard.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /** Rejects when full: tasks come from the change dispatcher thread, which must never run JDBC itself. */
+    @Bean
+    public ThreadPoolTaskExecutor alertExecutor(
+            @Value("${jobboard.alerts.threads:2}") int threads,
+            @Value("${jobboard.alerts.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("alert-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor companyDeletionExecutor(
+            @Value("${jobboard.company-deletion.threads:1}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("company-deletion-");
+        return executor;
+    }
+
+    /** Single thread on purpose: {@code SimilarJobIndex} relies on all of its mutations being serialised. */
+    @Bean
+    public ThreadPoolTaskExecutor similarJobsExecutor(
+            @Value("${jobboard.similar.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("similar-jobs-");
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobboard.config;
+
+import com.jobboard.datasource.ReplicaSelection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "jobboard.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+    private ReplicaSelection selection = ReplicaSelection.LEAST_LOADED;
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    private String lagQuery;
+    private Duration maxLag = Duration.ofSeconds(10);
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobboard.config;
+
+import com.jobboard.jdbc.ObservedDataSource;
+import com.jobboard.jdbc.QueryStatsRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlStatsConfig {
+
+    @Bean
+    public QueryStatsRegistry queryStatsRegistry(
+            @Value("${jobboard.sql-stats.max-shapes:1000}") int maxShapes,
+            @Value("${jobboard.sql-stats.samples-per-shape:5}") int samplesPerShape,
+            @Value("${jobboard.sql-stats.slow-threshold:PT0.1S}") Duration slowThreshold) {
+        return new QueryStatsRegistry(maxShapes, samplesPerShape, slowThreshold);
+    }
+
+    /** Wraps the application's {@code dataSource} bean, whichever configuration created it. */
+    @Bean
+    @ConditionalOnProperty(name = "jobboard.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor observedDataSourcePostProcessor(ObjectProvider<QueryStatsRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ObservedDataSource)) {
+                    return new ObservedDataSource(dataSource, registry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
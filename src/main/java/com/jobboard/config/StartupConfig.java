@@ -0,0 +1,39 @@
+package com.jobboard.config;
+
+import com.jobboard.controller.ApplicationController;
+import com.jobboard.controller.CompanyController;
+import com.jobboard.controller.JobController;
+import com.jobboard.service.JobArchiveService;
+import com.jobboard.service.JobChangeFeedTailer;
+import com.jobboard.service.JobChangeRetentionTask;
+import com.jobboard.service.alert.SavedSearchChangePoller;
+import com.jobboard.service.catalog.CompanyChangePoller;
+import com.jobboard.service.dedup.JobDeduplicationService;
+import com.jobboard.service.stream.JobStreamBroadcaster;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on: the hot request path, so the first
+ * request does not pay for wiring it, and beans whose {@code @Scheduled} work would otherwise never be
+ * registered because nothing else creates them.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                JobController.class,
+                ApplicationController.class,
+                CompanyController.class,
+                JobArchiveService.class,
+                JobChangeFeedTailer.class,
+                JobChangeRetentionTask.class,
+                CompanyChangePoller.class,
+                SavedSearchChangePoller.class,
+                JobDeduplicationService.class,
+                JobStreamBroadcaster.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobboard.controller;
+
+import com.jobboard.model.dto.ApplicationCountDTO;
+import com.jobboard.model.dto.ApplicationCreateDTO;
+import com.jobboard.model.dto.ApplicationDTO;
+import com.jobboard.service.ApplicationService;
+import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/applications")
+public class ApplicationController {
+
+    private final ApplicationService applicationService;
+
+    public ApplicationController(ApplicationService applicationService) {
+        this.applicationService = applicationService;
+    }
+
+    /** Completes asynchronously once the intake batch holding the application has committed. */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<ApplicationDTO>> apply(@Valid @RequestBody ApplicationCreateDTO dto) {
+        return applicationService.apply(dto)
+                .thenApply(result -> ResponseEntity.status(HttpStatus.CREATED).body(result));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApplicationDTO> getApplicationById(@PathVariable Long id) {
+        return ResponseEntity.ok(applicationService.getApplicationById(id));
+    }
+
+    @GetMapping("/job/{jobId}/count")
+    public ResponseEntity<ApplicationCountDTO> getApplicationCount(@PathVariable Long jobId) {
+        return ResponseEntity.ok(applicationService.getApplicationCount(jobId));
+    }
+}
@@ -2,11 +2,17 @@ package com.jobboard.controller;
 
 import com.jobboard.model.dto.CompanyCreateDTO;
 import com.jobboard.model.dto.CompanyDTO;
+import com.jobboard.model.dto.CompanyDeletionDTO;
+import com.jobboard.model.dto.CompanyJobsPageDTO;
 import com.jobboard.model.dto.CompanyUpdateDTO;
 import com.jobboard.service.CompanyService;
+import com.jobboard.service.JobService;
+import com.jobboard.service.RequestCoalescer;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -26,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/companies")
@@ -36,9 +43,16 @@ public class CompanyController {
             "id", "name", "description", "website", "location", "createdAt", "updatedAt");
 
     private final CompanyService companyService;
+    private final JobService jobService;
+    private final RequestCoalescer requestCoalescer;
 
-    public CompanyController(CompanyService companyService) {
+    public CompanyController(
+            CompanyService companyService,
+            JobService jobService,
+            RequestCoalescer requestCoalescer) {
         this.companyService = companyService;
+        this.jobService = jobService;
+        this.requestCoalescer = requestCoalescer;
     }
 
     @GetMapping
@@ -47,7 +61,8 @@ public class CompanyController {
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "name,asc") String sort) {
         Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        return ResponseEntity.ok(companyService.getAllCompanies(pageable));
+        return ResponseEntity.ok(requestCoalescer.execute(
+                "company.all", pageable, () -> companyService.getAllCompanies(pageable)));
     }
 
     private Sort parseSort(String sort) {
@@ -74,7 +89,18 @@ public class CompanyController {
 
     @GetMapping("/{id}")
     public ResponseEntity<CompanyDTO> getCompanyById(@PathVariable Long id) {
-        return ResponseEntity.ok(companyService.getCompanyById(id));
+        return ResponseEntity.ok(requestCoalescer.execute("company.byId", id, () -> companyService.getCompanyById(id)));
+    }
+
+    @GetMapping("/{id}/jobs")
+    public ResponseEntity<CompanyJobsPageDTO> getCompanyJobs(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @RequestParam(defaultValue = "desc") @Pattern(regexp = "(?i)asc|desc") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return ResponseEntity.ok(jobService.getCompanyJobs(
+                id, activeOnly, "asc".equalsIgnoreCase(order), cursor, limit));
     }
 
     @PostMapping
@@ -91,8 +117,23 @@ public class CompanyController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCompany(@PathVariable Long id) {
-        companyService.deleteCompany(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<CompanyDeletionDTO> deleteCompany(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean async) {
+        if (!async) {
+            companyService.deleteCompany(id);
+            return ResponseEntity.noContent().build();
+        }
+        CompanyDeletionDTO operation = companyService.deleteCompanyAsync(id);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/companies/deletions/{operationId}")
+                .buildAndExpand(operation.getOperationId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(operation);
+    }
+
+    @GetMapping("/deletions/{operationId}")
+    public ResponseEntity<CompanyDeletionDTO> getDeletion(@PathVariable String operationId) {
+        return ResponseEntity.ok(companyService.getDeletion(operationId));
     }
 }
@@ -0,0 +1,52 @@
+package com.jobboard.controller;
+
+import com.jobboard.model.dto.BulkJobResultDTO;
+import com.jobboard.model.dto.DeduplicationReportDTO;
+import com.jobboard.model.dto.JobBulkFilterDTO;
+import com.jobboard.service.JobArchiveService;
+import com.jobboard.service.JobBulkService;
+import com.jobboard.service.dedup.JobDeduplicationService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/jobs")
+public class JobAdminController {
+
+    private final JobDeduplicationService jobDeduplicationService;
+    private final JobBulkService jobBulkService;
+    private final JobArchiveService jobArchiveService;
+
+    public JobAdminController(
+            JobDeduplicationService jobDeduplicationService,
+            JobBulkService jobBulkService,
+            JobArchiveService jobArchiveService) {
+        this.jobDeduplicationService = jobDeduplicationService;
+        this.jobBulkService = jobBulkService;
+        this.jobArchiveService = jobArchiveService;
+    }
+
+    @PostMapping("/deduplicate")
+    public ResponseEntity<DeduplicationReportDTO> deduplicate() {
+        return ResponseEntity.ok(jobDeduplicationService.deduplicate());
+    }
+
+    @PostMapping("/archive")
+    public ResponseEntity<BulkJobResultDTO> archive() {
+        return ResponseEntity.ok(jobArchiveService.archive());
+    }
+
+    @PostMapping("/bulk/deactivate")
+    public ResponseEntity<BulkJobResultDTO> bulkDeactivate(@Valid @RequestBody JobBulkFilterDTO filter) {
+        return ResponseEntity.ok(jobBulkService.deactivate(filter));
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkJobResultDTO> bulkDelete(@Valid @RequestBody JobBulkFilterDTO filter) {
+        return ResponseEntity.ok(jobBulkService.delete(filter));
+    }
+}
@@ -1,10 +1,25 @@
 package com.jobboard.controller;
 
+import com.jobboard.model.dto.JobBatchDTO;
+import com.jobboard.model.dto.JobBatchRequestDTO;
+import com.jobboard.model.dto.JobBatchUpdateRequestDTO;
+import com.jobboard.model.dto.JobBatchUpdateResultDTO;
+import com.jobboard.model.dto.JobChangeFeedDTO;
 import com.jobboard.model.dto.JobCreateDTO;
 import com.jobboard.model.dto.JobDetailDTO;
 import com.jobboard.model.dto.JobDTO;
 import com.jobboard.model.dto.JobUpdateDTO;
+import com.jobboard.model.dto.TrendingJobDTO;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
 import com.jobboard.service.JobService;
+import com.jobboard.service.RequestCoalescer;
+import com.jobboard.service.render.JsonFragment;
+import com.jobboard.service.similar.SimilarJobService;
+import com.jobboard.service.stream.JobStreamBroadcaster;
+import com.jobboard.service.stream.JobStreamFilter;
+import com.jobboard.service.views.JobViewCounter;
+import com.jobboard.service.views.TrendingJobService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -16,6 +31,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,9 +40,11 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -38,27 +56,69 @@ public class JobController {
             "experienceLevel", "remoteOption", "postedDate", "isActive", "createdAt", "updatedAt");
 
     private final JobService jobService;
+    private final JobStreamBroadcaster jobStreamBroadcaster;
+    private final SimilarJobService similarJobService;
+    private final RequestCoalescer requestCoalescer;
+    private final JobViewCounter jobViewCounter;
+    private final TrendingJobService trendingJobService;
 
-    public JobController(JobService jobService) {
+    public JobController(
+            JobService jobService,
+            JobStreamBroadcaster jobStreamBroadcaster,
+            SimilarJobService similarJobService,
+            RequestCoalescer requestCoalescer,
+            JobViewCounter jobViewCounter,
+            TrendingJobService trendingJobService) {
         this.jobService = jobService;
+        this.jobStreamBroadcaster = jobStreamBroadcaster;
+        this.similarJobService = similarJobService;
+        this.requestCoalescer = requestCoalescer;
+        this.jobViewCounter = jobViewCounter;
+        this.trendingJobService = trendingJobService;
     }
 
     @GetMapping
-    public ResponseEntity<Page<JobDTO>> getAllJobs(
+    public ResponseEntity<Page<JsonFragment>> getAllJobs(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "postedDate,desc") String sort) {
         Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        return ResponseEntity.ok(jobService.getAllJobs(pageable));
+        return ResponseEntity.ok(requestCoalescer.execute(
+                "job.all", pageable, () -> jobService.getAllJobs(pageable)));
     }
 
     @GetMapping("/active")
-    public ResponseEntity<Page<JobDTO>> getActiveJobs(
+    public ResponseEntity<Page<JsonFragment>> getActiveJobs(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "postedDate,desc") String sort) {
         Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        return ResponseEntity.ok(jobService.getActiveJobs(pageable));
+        return ResponseEntity.ok(requestCoalescer.execute(
+                "job.active", pageable, () -> jobService.getActiveJobs(pageable)));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingJobDTO>> getTrendingJobs(
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit) {
+        return ResponseEntity.ok(trendingJobService.getTrendingJobs(limit));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<JobChangeFeedDTO> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long since,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit) {
+        return ResponseEntity.ok(jobService.getChanges(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobs(
+            @RequestParam(required = false) JobType jobType,
+            @RequestParam(required = false) RemoteOption remoteOption,
+            @RequestParam(required = false) Long companyId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return jobStreamBroadcaster.subscribe(new JobStreamFilter(jobType, remoteOption, companyId), lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
     }
 
     private Sort parseSort(String sort) {
@@ -83,15 +143,39 @@ public class JobController {
         return orders.isEmpty() ? Sort.by(Sort.Direction.DESC, "postedDate") : Sort.by(orders);
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<JobBatchDTO> getJobsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(jobService.getJobsByIds(ids));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<JobBatchDTO> getJobsByIds(@Valid @RequestBody JobBatchRequestDTO request) {
+        return ResponseEntity.ok(jobService.getJobsByIds(request.getIds()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<JobDetailDTO> getJobById(@PathVariable Long id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+        JobDetailDTO job = requestCoalescer.execute("job.byId", id, () -> jobService.getJobById(id));
+        jobViewCounter.record(id);
+        return ResponseEntity.ok(job);
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<JobDTO>> getSimilarJobs(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ResponseEntity.ok(similarJobService.getSimilarJobs(id, limit));
     }
 
     @PostMapping
     public ResponseEntity<JobDTO> createJob(@Valid @RequestBody JobCreateDTO dto) {
-        JobDTO result = jobService.createJob(dto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        JobService.CreatedJob result = jobService.createJob(dto);
+        return ResponseEntity.status(result.merged() ? HttpStatus.OK : HttpStatus.CREATED).body(result.job());
+    }
+
+    @PatchMapping("/batch")
+    public ResponseEntity<JobBatchUpdateResultDTO> updateJobs(@Valid @RequestBody JobBatchUpdateRequestDTO dto) {
+        return ResponseEntity.ok(jobService.updateJobs(dto.getItems()));
     }
 
     @PatchMapping("/{id}")
@@ -0,0 +1,81 @@
+package com.jobboard.controller;
+
+import com.jobboard.exception.InvalidResumeException;
+import com.jobboard.exception.ResumeNotFoundException;
+import com.jobboard.model.dto.ResumeDTO;
+import com.jobboard.service.resume.ResumeStorage;
+import com.jobboard.service.resume.ResumeStorage.StoredResume;
+import com.jobboard.web.FileResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/resumes")
+public class ResumeController {
+
+    private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private final ResumeStorage resumeStorage;
+
+    public ResumeController(ResumeStorage resumeStorage) {
+        this.resumeStorage = resumeStorage;
+    }
+
+    /** Multipart form upload; the container spools the part to disk and it is streamed from there. */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResumeDTO> uploadResume(@RequestPart("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new InvalidResumeException("Resume file is empty");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return created(resumeStorage.store(in, file.getSize()));
+        }
+    }
+
+    /** Raw-body upload, streamed from the socket straight into the store with no intermediate copy. */
+    @PostMapping(consumes = {
+            MediaType.APPLICATION_PDF_VALUE,
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ResumeDTO> uploadResume(HttpServletRequest request) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return created(resumeStorage.store(in, request.getContentLengthLong()));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public void downloadResume(
+            @PathVariable String id,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        StoredResume resume = resumeStorage.find(id).orElseThrow(() -> new ResumeNotFoundException(id));
+        String filename = "resume-" + id.substring(0, 12) + "." + resume.type().extension();
+        FileResponses.serve(request, response, resume.file(), resume.size(), "\"" + id + "\"",
+                resume.type().mediaType(), ContentDisposition.attachment().filename(filename).build().toString(),
+                CACHE_CONTROL);
+    }
+
+    /**
+     * Answers 201 with the same body whether or not the file was already stored, so an upload cannot be used to
+     * probe whether someone else has uploaded a given file.
+     */
+    private static ResponseEntity<ResumeDTO> created(StoredResume resume) {
+        URI location = URI.create("/api/resumes/" + resume.id());
+        ResumeDTO dto = new ResumeDTO(resume.id(), resume.type().mediaType(), resume.size(), location.toString());
+        return ResponseEntity.created(location).body(dto);
+    }
+}
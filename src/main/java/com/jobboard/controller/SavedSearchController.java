@@ -0,0 +1,70 @@
+package com.jobboard.controller;
+
+import com.jobboard.model.dto.SavedSearchCreateDTO;
+import com.jobboard.model.dto.SavedSearchDTO;
+import com.jobboard.model.dto.SavedSearchMatchDTO;
+import com.jobboard.service.SavedSearchService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@Validated
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    public SavedSearchController(SavedSearchService savedSearchService) {
+        this.savedSearchService = savedSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Page<SavedSearchDTO>> getSavedSearches(
+            @RequestParam String ownerEmail,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(ownerEmail, pageable));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SavedSearchDTO> getSavedSearchById(@PathVariable Long id) {
+        return ResponseEntity.ok(savedSearchService.getSavedSearchById(id));
+    }
+
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<Page<SavedSearchMatchDTO>> getMatches(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "matchedAt"));
+        return ResponseEntity.ok(savedSearchService.getMatches(id, pageable));
+    }
+
+    @PostMapping
+    public ResponseEntity<SavedSearchDTO> createSavedSearch(@Valid @RequestBody SavedSearchCreateDTO dto) {
+        SavedSearchDTO result = savedSearchService.createSavedSearch(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobboard.controller;
+
+import com.jobboard.jdbc.QueryStatsRegistry;
+import com.jobboard.model.dto.QueryShapeDTO;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/sql")
+@Validated
+public class SqlStatsController {
+
+    private final QueryStatsRegistry queryStatsRegistry;
+
+    public SqlStatsController(QueryStatsRegistry queryStatsRegistry) {
+        this.queryStatsRegistry = queryStatsRegistry;
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<QueryShapeDTO>> top(
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int limit,
+            @RequestParam(defaultValue = "total") @Pattern(regexp = "total|mean|max|count|rows") String orderBy) {
+        return ResponseEntity.ok(queryStatsRegistry.top(limit, orderBy));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        queryStatsRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
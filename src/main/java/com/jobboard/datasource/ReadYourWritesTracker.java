@@ -0,0 +1,42 @@
+package com.jobboard.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Remembers which clients wrote recently. For {@code window} after a write, that client's reads are pinned to
+ * the primary so it never reads a replica that has not caught up with its own change.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final ConcurrentMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String clientId) {
+        stickyUntil.put(clientId, System.nanoTime() + windowNanos);
+    }
+
+    public boolean isSticky(String clientId) {
+        Long until = stickyUntil.get(clientId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        stickyUntil.remove(clientId, until);
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${jobboard.datasource.stickiness:PT5S}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobboard.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The read replicas and their health. A replica is taken out of rotation when a connection to it fails, when it
+ * fails the periodic validity check, or when the optional lag query reports more than {@code maxLag}; the next
+ * successful check puts it back. Checks run on the pool's own thread, so a replica that stops answering is taken
+ * out on time even while the shared scheduler is busy with long-running jobs.
+ */
+public class ReplicaPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final Map<String, Replica> replicasByKey;
+    private final ReplicaSelection selection;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(Map<String, DataSource> replicas, ReplicaSelection selection, String lagQuery, Duration maxLag) {
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.replicasByKey = this.replicas.stream().collect(Collectors.toMap(Replica::key, Function.identity()));
+        this.selection = selection;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    /** Picks a healthy replica, or returns {@code null} when reads have to go to the primary. */
+    public String select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        Replica chosen = null;
+        int chosenLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            if (selection == ReplicaSelection.ROUND_ROBIN) {
+                return replica.key;
+            }
+            int load = replica.activeConnections();
+            if (load < chosenLoad) {
+                chosen = replica;
+                chosenLoad = load;
+            }
+        }
+        return chosen != null ? chosen.key : null;
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return replicas.stream().collect(Collectors.toMap(Replica::key, Replica::dataSource));
+    }
+
+    public boolean isHealthy(String key) {
+        Replica replica = replicasByKey.get(key);
+        return replica != null && replica.healthy;
+    }
+
+    public void markUnhealthy(String key, Exception cause) {
+        Replica replica = replicasByKey.get(key);
+        if (replica != null && replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", key, cause.getMessage());
+        }
+    }
+
+    /** Runs {@link #checkHealth()} every {@code interval} on a dedicated thread until the pool is closed. */
+    public synchronized void startHealthChecks(Duration interval) {
+        if (healthChecker != null) {
+            return;
+        }
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealthSafely, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUnhealthy(replica.key, new SQLException("connection validation failed"));
+                    continue;
+                }
+                Duration lag = lag(connection);
+                if (lag.compareTo(maxLag) > 0) {
+                    markUnhealthy(replica.key, new SQLException("replication lag " + lag + " exceeds " + maxLag));
+                    continue;
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} back in rotation", replica.key);
+                }
+            } catch (SQLException ex) {
+                markUnhealthy(replica.key, ex);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            if (healthChecker != null) {
+                healthChecker.shutdownNow();
+            }
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void checkHealthSafely() {
+        try {
+            checkHealth();
+        } catch (RuntimeException ex) {
+            log.warn("Replica health check failed", ex);
+        }
+    }
+
+    private Duration lag(Connection connection) throws SQLException {
+        if (lagQuery == null) {
+            return Duration.ZERO;
+        }
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return Duration.ZERO;
+            }
+            double seconds = rs.getDouble(1);
+            return rs.wasNull() ? Duration.ZERO : Duration.ofMillis((long) (seconds * 1000));
+        }
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        private String key() {
+            return key;
+        }
+
+        private DataSource dataSource() {
+            return dataSource;
+        }
+
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.jobboard.datasource;
+
+public enum ReplicaSelection {
+    ROUND_ROBIN,
+    LEAST_LOADED
+}
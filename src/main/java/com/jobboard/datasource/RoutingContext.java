@@ -0,0 +1,25 @@
+package com.jobboard.datasource;
+
+/**
+ * Per-thread override that pins read-only transactions to the primary, e.g. while a client is inside its
+ * read-your-writes window.
+ */
+public final class RoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private RoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
@@ -0,0 +1,5 @@
+package com.jobboard.event;
+
+/** A committed job or company change, as handed to {@link ChangeSubscriber}s. */
+public sealed interface ChangeEvent permits JobChangedEvent, CompanyChangedEvent {
+}
@@ -0,0 +1,40 @@
+package com.jobboard.event;
+
+import java.util.List;
+
+/**
+ * Maintains derived data from committed changes. Beans implementing this are called by
+ * {@code ChangeEventDispatcher} on its own thread, never on a request thread and never for a rolled-back
+ * write, with batches in the order the changes were published. Work that is slow or touches the database
+ * should be handed to the subscriber's own executor so other subscribers are not held up; that executor must
+ * reject rather than run the task on the caller when it is full. An exception is logged and abandons the rest
+ * of that batch for this subscriber only.
+ */
+public interface ChangeSubscriber {
+
+    /** Override to handle a whole batch at once; by default each event goes to the typed callbacks below. */
+    default void onChanges(List<ChangeEvent> batch) {
+        for (ChangeEvent event : batch) {
+            if (event instanceof JobChangedEvent job) {
+                onJobChanged(job);
+            } else if (event instanceof CompanyChangedEvent company) {
+                onCompanyChanged(company);
+            }
+        }
+    }
+
+    /**
+     * Whether to also receive job changes committed on other nodes, read back from the change feed. Those carry
+     * no {@code changedFields}. Subscribers that write shared state rather than keep a per-node view return false
+     * so each change is handled by the node that made it.
+     */
+    default boolean receivesRemoteChanges() {
+        return true;
+    }
+
+    default void onJobChanged(JobChangedEvent event) {
+    }
+
+    default void onCompanyChanged(CompanyChangedEvent event) {
+    }
+}
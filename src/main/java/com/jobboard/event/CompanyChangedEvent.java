@@ -0,0 +1,12 @@
+package com.jobboard.event;
+
+import com.jobboard.model.dto.CompanySummaryDTO;
+import com.jobboard.model.entity.ChangeType;
+
+/**
+ * Published by {@code CompanyService} inside the writing transaction and delivered to {@link ChangeSubscriber}s
+ * after commit. {@code version} and {@code company} are null for deletes.
+ */
+public record CompanyChangedEvent(ChangeType type, Long companyId, Integer version, CompanySummaryDTO company)
+        implements ChangeEvent {
+}
@@ -0,0 +1,26 @@
+package com.jobboard.event;
+
+import com.jobboard.model.dto.JobDetailDTO;
+import com.jobboard.model.entity.ChangeType;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Published by {@code JobService} inside the writing transaction and delivered to {@link ChangeSubscriber}s
+ * after commit. {@code seq} is the job_change sequence number and {@code job} the state as written (the last
+ * known state for deletes). {@code changedFields} names the fields an update actually changed, using the keys
+ * of {@code JobMapper#snapshot}; it is null when not known, as for creates, removals and bulk writes.
+ */
+public record JobChangedEvent(
+        Long seq,
+        ChangeType type,
+        Long jobId,
+        Integer version,
+        Set<String> changedFields,
+        JobDetailDTO job) implements ChangeEvent {
+
+    /** Whether this change may have modified any of {@code fields}. */
+    public boolean touches(Set<String> fields) {
+        return changedFields == null || !Collections.disjoint(changedFields, fields);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobboard.event;
+
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.SavedSearch;
+
+public record SavedSearchChangedEvent(ChangeType type, SavedSearch search) {
+}
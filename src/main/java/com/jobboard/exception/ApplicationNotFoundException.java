@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class ApplicationNotFoundException extends RuntimeException {
+
+    public ApplicationNotFoundException(Long id) {
+        super("Application not found with id: " + id);
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobboard.exception;
+
+public class ChangeCursorExpiredException extends RuntimeException {
+
+    private final long oldestSeq;
+
+    public ChangeCursorExpiredException(long since, long oldestSeq) {
+        super("Changes after " + since + " are no longer retained (oldest is " + oldestSeq
+                + "); reload the jobs, then follow the feed again from since=0");
+        this.oldestSeq = oldestSeq;
+    }
+
+    public long getOldestSeq() {
+        return oldestSeq;
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class DuplicateApplicationException extends RuntimeException {
+
+    public DuplicateApplicationException(Long jobId) {
+        super("An application to job " + jobId + " already exists for this applicant");
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class DuplicateJobException extends RuntimeException {
+
+    public DuplicateJobException(Long existingJobId) {
+        super("Job is a near-duplicate of existing job with id: " + existingJobId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobboard.exception;
 
+import com.jobboard.model.dto.ChangeCursorExpiredResponse;
 import com.jobboard.model.dto.ErrorResponse;
 import com.jobboard.model.dto.ValidationErrorResponse;
 import java.time.LocalDateTime;
@@ -7,12 +8,15 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -39,6 +43,148 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(SavedSearchNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleSavedSearchNotFound(SavedSearchNotFoundException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(OperationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleOperationNotFound(OperationNotFoundException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(ApplicationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleApplicationNotFound(ApplicationNotFoundException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(ResumeNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleResumeNotFound(ResumeNotFoundException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(InvalidResumeException.class)
+    @ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+    public ErrorResponse handleInvalidResume(InvalidResumeException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(ResumeTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ErrorResponse handleResumeTooLarge(ResumeTooLargeException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.PAYLOAD_TOO_LARGE.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ErrorResponse handleMaxUploadSize(MaxUploadSizeExceededException ex) {
+        return new ErrorResponse(
+            "Upload exceeds the maximum allowed size",
+            HttpStatus.PAYLOAD_TOO_LARGE.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(InvalidJobDataException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidJobData(InvalidJobDataException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.BAD_REQUEST.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(DuplicateJobException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDuplicateJob(DuplicateJobException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.CONFLICT.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(DuplicateApplicationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDuplicateApplication(DuplicateApplicationException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.CONFLICT.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(JobClosedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleJobClosed(JobClosedException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.CONFLICT.value(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(IntakeOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleIntakeOverloaded(IntakeOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse(
+                ex.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now()
+            ));
+    }
+
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    @ResponseStatus(HttpStatus.GONE)
+    public ChangeCursorExpiredResponse handleChangeCursorExpired(ChangeCursorExpiredException ex) {
+        return new ChangeCursorExpiredResponse(
+            ex.getMessage(),
+            HttpStatus.GONE.value(),
+            ex.getOldestSeq(),
+            LocalDateTime.now()
+        );
+    }
+
+    @ExceptionHandler(OperationInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleOperationInProgress(OperationInProgressException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.CONFLICT.value(),
+            LocalDateTime.now()
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ValidationErrorResponse handleValidationErrors(MethodArgumentNotValidException ex) {
@@ -54,9 +200,9 @@ public class GlobalExceptionHandler {
         );
     }
 
-    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
-    public ErrorResponse handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+    public ErrorResponse handleOptimisticLock(OptimisticLockingFailureException ex) {
         return new ErrorResponse(
             "The resource was modified by another user. Please refresh and try again.",
             HttpStatus.CONFLICT.value(),
@@ -64,6 +210,16 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(OptimisticLockException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleFieldConflict(OptimisticLockException ex) {
+        return new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.CONFLICT.value(),
+            LocalDateTime.now()
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGeneral(Exception ex) {
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class IntakeOverloadedException extends RuntimeException {
+
+    public IntakeOverloadedException() {
+        super("Too many applications are being processed; please retry shortly");
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class InvalidResumeException extends RuntimeException {
+
+    public InvalidResumeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class JobClosedException extends RuntimeException {
+
+    public JobClosedException(Long id) {
+        super("Job is no longer accepting applications: " + id);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class OperationInProgressException extends RuntimeException {
+
+    public OperationInProgressException(String message) {
+        super(message);
+    }
+}
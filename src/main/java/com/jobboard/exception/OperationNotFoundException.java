@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class OperationNotFoundException extends RuntimeException {
+
+    public OperationNotFoundException(String operationId) {
+        super("Operation not found with id: " + operationId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class ResumeNotFoundException extends RuntimeException {
+
+    public ResumeNotFoundException(String id) {
+        super("Resume not found with id: " + id);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class ResumeTooLargeException extends RuntimeException {
+
+    public ResumeTooLargeException(long maxBytes) {
+        super("Resume exceeds the maximum size of " + maxBytes + " bytes");
+    }
+}
@@ -0,0 +1,8 @@
+package com.jobboard.exception;
+
+public class SavedSearchNotFoundException extends RuntimeException {
+
+    public SavedSearchNotFoundException(Long id) {
+        super("Saved search not found with id: " + id);
+    }
+}
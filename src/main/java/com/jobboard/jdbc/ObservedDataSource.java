@@ -0,0 +1,216 @@
+package com.jobboard.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps connections so that every statement execution is timed and recorded in a {@link QueryStatsRegistry}
+ * under its SQL shape. Bind parameters are only captured into memory per statement and only kept when the
+ * execution turns out to be slow. Rows are counted as the caller reads the result set and added when it closes.
+ */
+public class ObservedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final QueryStatsRegistry registry;
+
+    public ObservedDataSource(DataSource target, QueryStatsRegistry registry) {
+        super(target);
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observe(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observe(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection observe(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && (args == null || args.length == 0)) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(0, count);
+        }
+        if (result instanceof Long count) {
+            return Math.max(0, count);
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                total += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(0, count);
+            }
+        }
+        return total;
+    }
+
+    private static Object displayValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        String text = String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ObservedDataSource.invoke(proxy, target, method, args);
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall":
+                    return statement(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement":
+                    return statement(Statement.class, (Statement) result, null);
+                default:
+                    return result;
+            }
+        }
+
+        private Object statement(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(), new Class<?>[] {type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final TreeMap<Integer, Object> parameters = new TreeMap<>();
+        private String batchSql;
+        private QueryShapeStats lastStats;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, displayValue(args[1]));
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                batchSql = (String) args[0];
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                Object result = ObservedDataSource.invoke(proxy, target, method, args);
+                if (name.equals("getResultSet") && result instanceof ResultSet rs && lastStats != null) {
+                    return resultSet(rs, lastStats);
+                }
+                return result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                    : preparedSql != null ? preparedSql : batchSql;
+            long started = System.nanoTime();
+            Object result;
+            try {
+                result = ObservedDataSource.invoke(proxy, target, method, args);
+            } catch (Throwable ex) {
+                record(sql, started, true);
+                throw ex;
+            }
+            lastStats = record(sql, started, false);
+            if (lastStats == null) {
+                return result;
+            }
+            if (result instanceof ResultSet rs) {
+                return resultSet(rs, lastStats);
+            }
+            lastStats.addRows(affectedRows(result));
+            return result;
+        }
+
+        private QueryShapeStats record(String sql, long started, boolean failed) {
+            if (sql == null) {
+                return null;
+            }
+            return registry.record(sql, System.nanoTime() - started, failed,
+                    () -> new ArrayList<>(parameters.values()));
+        }
+
+        private ResultSet resultSet(ResultSet resultSet, QueryShapeStats stats) {
+            return (ResultSet) Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(),
+                    new Class<?>[] {ResultSet.class}, new ResultSetHandler(resultSet, stats));
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final QueryShapeStats stats;
+        private long rows;
+        private boolean closed;
+
+        private ResultSetHandler(ResultSet target, QueryShapeStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ObservedDataSource.invoke(proxy, target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (method.getName().equals("close") && !closed) {
+                closed = true;
+                stats.addRows(rows);
+            }
+            return result;
+        }
+    }
+}
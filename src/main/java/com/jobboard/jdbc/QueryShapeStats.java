@@ -0,0 +1,121 @@
+package com.jobboard.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters for one SQL shape. Latencies go into power-of-two microsecond buckets (bucket {@code b}
+ * holds {@code [2^(b-1), 2^b)} µs), which is enough for percentile estimates within a factor of two. Slow
+ * executions overwrite a small ring of samples.
+ */
+final class QueryShapeStats {
+
+    static final int BUCKETS = 32;
+
+    private final String shape;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    private final AtomicReferenceArray<SlowSample> samples;
+    private final AtomicInteger nextSample = new AtomicInteger();
+
+    QueryShapeStats(String shape, int sampleCapacity) {
+        this.shape = shape;
+        this.samples = new AtomicReferenceArray<>(Math.max(1, sampleCapacity));
+    }
+
+    void record(long nanos, boolean failed) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        histogram.incrementAndGet(bucket(nanos));
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    void addRows(long returned) {
+        rows.add(returned);
+    }
+
+    void sample(String sql, List<Object> parameters, long nanos) {
+        int slot = Math.floorMod(nextSample.getAndIncrement(), samples.length());
+        samples.set(slot, new SlowSample(sql, parameters, nanos, LocalDateTime.now()));
+    }
+
+    String shape() {
+        return shape;
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    long maxNanos() {
+        return maxNanos.get();
+    }
+
+    long rows() {
+        return rows.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    /** Upper bound, in nanos, of the bucket containing the given quantile. */
+    long percentileNanos(double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return TimeUnit.MICROSECONDS.toNanos(1L << i);
+            }
+        }
+        return maxNanos();
+    }
+
+    List<SlowSample> samples() {
+        List<SlowSample> result = new ArrayList<>(samples.length());
+        for (int i = 0; i < samples.length(); i++) {
+            SlowSample sample = samples.get(i);
+            if (sample != null) {
+                result.add(sample);
+            }
+        }
+        result.sort((a, b) -> Long.compare(b.nanos(), a.nanos()));
+        return result;
+    }
+
+    private static int bucket(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    record SlowSample(String sql, List<Object> parameters, long nanos, LocalDateTime executedAt) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobboard.jdbc;
+
+import com.jobboard.model.dto.QueryShapeDTO;
+import com.jobboard.model.dto.SlowQuerySampleDTO;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-shape statistics for every statement executed through {@link ObservedDataSource}. The number of shapes
+ * is capped; executions of shapes first seen after the cap are counted under {@link #OVERFLOW_SHAPE}.
+ */
+public class QueryStatsRegistry {
+
+    public static final String OVERFLOW_SHAPE = "<other>";
+
+    private final int maxShapes;
+    private final int samplesPerShape;
+    private final long slowThresholdNanos;
+    private final ConcurrentMap<String, QueryShapeStats> shapes = new ConcurrentHashMap<>();
+
+    public QueryStatsRegistry(int maxShapes, int samplesPerShape, Duration slowThreshold) {
+        this.maxShapes = maxShapes;
+        this.samplesPerShape = samplesPerShape;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    QueryShapeStats record(String sql, long nanos, boolean failed, Supplier<List<Object>> parameters) {
+        QueryShapeStats stats = statsFor(SqlShapes.shapeOf(sql));
+        stats.record(nanos, failed);
+        if (nanos >= slowThresholdNanos) {
+            stats.sample(sql, parameters.get(), nanos);
+        }
+        return stats;
+    }
+
+    public List<QueryShapeDTO> top(int limit, String orderBy) {
+        Comparator<QueryShapeStats> order = switch (orderBy) {
+            case "count" -> Comparator.comparingLong(QueryShapeStats::count);
+            case "max" -> Comparator.comparingLong(QueryShapeStats::maxNanos);
+            case "mean" -> Comparator.comparingDouble(
+                    stats -> (double) stats.totalNanos() / Math.max(1, stats.count()));
+            case "rows" -> Comparator.comparingLong(QueryShapeStats::rows);
+            default -> Comparator.comparingLong(QueryShapeStats::totalNanos);
+        };
+        return shapes.values().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .map(QueryStatsRegistry::toDTO)
+                .toList();
+    }
+
+    public int shapeCount() {
+        return shapes.size();
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    private QueryShapeStats statsFor(String shape) {
+        QueryShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= maxShapes) {
+            shape = OVERFLOW_SHAPE;
+        }
+        return shapes.computeIfAbsent(shape, key -> new QueryShapeStats(key, samplesPerShape));
+    }
+
+    private static QueryShapeDTO toDTO(QueryShapeStats stats) {
+        long count = stats.count();
+        List<SlowQuerySampleDTO> samples = stats.samples().stream()
+                .map(sample -> new SlowQuerySampleDTO(sample.sql(), sample.parameters(),
+                        millis(sample.nanos()), sample.executedAt()))
+                .toList();
+        return new QueryShapeDTO(
+                stats.shape(),
+                count,
+                millis(stats.totalNanos()),
+                count == 0 ? 0 : millis(stats.totalNanos()) / count,
+                millis(stats.percentileNanos(0.50)),
+                millis(stats.percentileNanos(0.95)),
+                millis(stats.percentileNanos(0.99)),
+                millis(stats.maxNanos()),
+                stats.rows(),
+                stats.errors(),
+                samples);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,14 @@
+package com.jobboard.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCountDTO {
+
+    private Long jobId;
+    private long applications;
+}
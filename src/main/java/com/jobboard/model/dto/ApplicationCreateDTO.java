@@ -0,0 +1,34 @@
+package com.jobboard.model.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCreateDTO {
+
+    @NotNull(message = "Job ID is required")
+    private Long jobId;
+
+    @NotBlank(message = "Applicant email is required")
+    @Email(message = "Applicant email must be valid")
+    private String applicantEmail;
+
+    @NotBlank(message = "Applicant name is required")
+    @Size(max = 255, message = "Applicant name must be at most 255 characters")
+    private String applicantName;
+
+    @Size(max = 10000, message = "Cover letter must be at most 10000 characters")
+    private String coverLetter;
+
+    @Size(max = 500, message = "Resume URL must be at most 500 characters")
+    @Pattern(regexp = "^(https?://).*", message = "Resume URL must be valid")
+    private String resumeUrl;
+}
@@ -0,0 +1,22 @@
+package com.jobboard.model.dto;
+
+import com.jobboard.model.entity.ApplicationStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDTO {
+
+    private Long id;
+    private Long jobId;
+    private String applicantEmail;
+    private String applicantName;
+    private String coverLetter;
+    private String resumeUrl;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,8 @@
+package com.jobboard.model.dto;
+
+public enum BatchItemStatus {
+    UPDATED,
+    CONFLICT,
+    NOT_FOUND,
+    INVALID
+}
@@ -0,0 +1,15 @@
+package com.jobboard.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobResultDTO {
+
+    private long affected;
+    private int batches;
+    private long durationMillis;
+}
@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ChangeCursorExpiredResponse extends ErrorResponse {
+
+    private long oldestSeq;
+
+    public ChangeCursorExpiredResponse(String message, int status, long oldestSeq, LocalDateTime timestamp) {
+        super(message, status, timestamp);
+        this.oldestSeq = oldestSeq;
+    }
+}
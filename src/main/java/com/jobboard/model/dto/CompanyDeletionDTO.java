@@ -0,0 +1,21 @@
+package com.jobboard.model.dto;
+
+import com.jobboard.model.entity.OperationStatus;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyDeletionDTO {
+
+    private String operationId;
+    private Long companyId;
+    private OperationStatus status;
+    private long jobsDeleted;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyJobsPageDTO {
+
+    private List<JobDTO> jobs;
+    /** Pass back as {@code cursor} to fetch the next page; {@code null} on the last page. */
+    private String nextCursor;
+    private boolean hasMore;
+}
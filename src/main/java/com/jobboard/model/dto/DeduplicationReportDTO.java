@@ -0,0 +1,16 @@
+package com.jobboard.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeduplicationReportDTO {
+
+    private long scanned;
+    private long fingerprinted;
+    private long flagged;
+    private long durationMillis;
+}
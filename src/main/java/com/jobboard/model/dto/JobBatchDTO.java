@@ -0,0 +1,15 @@
+package com.jobboard.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchDTO {
+
+    private List<JobDetailDTO> jobs;
+    private List<Long> missingIds;
+}
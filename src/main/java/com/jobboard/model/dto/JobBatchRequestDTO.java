@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchRequestDTO {
+
+    @NotEmpty(message = "At least one job id is required")
+    private List<@NotNull(message = "Job ids must not be null") Long> ids;
+}
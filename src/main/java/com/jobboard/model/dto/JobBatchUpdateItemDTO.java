@@ -0,0 +1,24 @@
+package com.jobboard.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchUpdateItemDTO {
+
+    @NotNull(message = "Job id is required")
+    private Long id;
+
+    /** The version the caller last read; the item is rejected as a conflict if the job has moved on. */
+    @NotNull(message = "Version is required")
+    private Integer version;
+
+    @NotNull(message = "Changes are required")
+    @Valid
+    private JobUpdateDTO changes;
+}
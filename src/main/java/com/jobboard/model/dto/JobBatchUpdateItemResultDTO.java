@@ -0,0 +1,18 @@
+package com.jobboard.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchUpdateItemResultDTO {
+
+    private Long id;
+    private BatchItemStatus status;
+    /** The job's version after this request: the new one when updated, the current one on a conflict. */
+    private Integer version;
+    private String message;
+    private JobDTO job;
+}
@@ -0,0 +1,18 @@
+package com.jobboard.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchUpdateRequestDTO {
+
+    @NotEmpty(message = "At least one item is required")
+    private List<@NotNull(message = "Items must not be null") @Valid JobBatchUpdateItemDTO> items;
+}
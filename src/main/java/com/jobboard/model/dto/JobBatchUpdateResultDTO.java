@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBatchUpdateResultDTO {
+
+    private int updated;
+    private int failed;
+    /** One entry per requested item, in request order. */
+    private List<JobBatchUpdateItemResultDTO> results;
+}
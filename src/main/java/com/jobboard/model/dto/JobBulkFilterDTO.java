@@ -0,0 +1,38 @@
+package com.jobboard.model.dto;
+
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobBulkFilterDTO {
+
+    @Size(max = 1000, message = "At most 1000 job ids can be listed")
+    private List<Long> ids;
+
+    private Long companyId;
+
+    private JobType jobType;
+
+    private ExperienceLevel experienceLevel;
+
+    private RemoteOption remoteOption;
+
+    private Boolean isActive;
+
+    private String location;
+
+    private LocalDateTime postedBefore;
+
+    private LocalDateTime postedAfter;
+
+    private LocalDateTime expiresBefore;
+}
@@ -0,0 +1,21 @@
+package com.jobboard.model.dto;
+
+import com.jobboard.model.entity.ChangeType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChangeDTO {
+
+    private Long seq;
+    private ChangeType type;
+    private Long jobId;
+    private Integer version;
+    private LocalDateTime changedAt;
+    /** Current state of the job; null for deletions. */
+    private JobDetailDTO job;
+}
@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChangeFeedDTO {
+
+    private List<JobChangeDTO> changes;
+    /** Pass back as {@code since} to fetch the next batch. */
+    private Long nextCursor;
+    private boolean hasMore;
+}
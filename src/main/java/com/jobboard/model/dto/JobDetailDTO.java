@@ -15,6 +15,9 @@ public class JobDetailDTO extends JobDTO {
     private String description;
     private LocalDateTime expiryDate;
     private String applicationUrl;
+    private Long duplicateOfId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /** Optimistic-lock version; send it back with batch updates. */
+    private Integer version;
 }
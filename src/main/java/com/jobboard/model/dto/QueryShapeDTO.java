@@ -0,0 +1,24 @@
+package com.jobboard.model.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryShapeDTO {
+
+    private String shape;
+    private long count;
+    private double totalMillis;
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+    private long rows;
+    private long errors;
+    private List<SlowQuerySampleDTO> slowSamples;
+}
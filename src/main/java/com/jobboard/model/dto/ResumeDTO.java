@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeDTO {
+
+    /** SHA-256 of the file contents; identical uploads share one id. */
+    private String id;
+    private String contentType;
+    private long sizeBytes;
+    private String url;
+}
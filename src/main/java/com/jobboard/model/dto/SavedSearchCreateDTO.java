@@ -0,0 +1,44 @@
+package com.jobboard.model.dto;
+
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import com.jobboard.validation.ValidSalaryRange;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidSalaryRange
+public class SavedSearchCreateDTO {
+
+    @NotBlank(message = "Owner email is required")
+    @Email(message = "Owner email must be valid")
+    private String ownerEmail;
+
+    /** All words must appear in the job title or description. */
+    private String keyword;
+
+    /** All words must appear in the job location. */
+    private String location;
+
+    private JobType jobType;
+
+    private ExperienceLevel experienceLevel;
+
+    private RemoteOption remoteOption;
+
+    private Long companyId;
+
+    @DecimalMin(value = "0.0", message = "Minimum salary must be positive when provided")
+    private BigDecimal salaryMin;
+
+    @DecimalMin(value = "0.0", message = "Maximum salary must be positive when provided")
+    private BigDecimal salaryMax;
+}
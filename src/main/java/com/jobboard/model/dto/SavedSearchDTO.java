@@ -0,0 +1,28 @@
+package com.jobboard.model.dto;
+
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchDTO {
+
+    private Long id;
+    private String ownerEmail;
+    private String keyword;
+    private String location;
+    private JobType jobType;
+    private ExperienceLevel experienceLevel;
+    private RemoteOption remoteOption;
+    private Long companyId;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private LocalDateTime createdAt;
+}
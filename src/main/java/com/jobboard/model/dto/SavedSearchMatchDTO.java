@@ -0,0 +1,17 @@
+package com.jobboard.model.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatchDTO {
+
+    private Long id;
+    private Long savedSearchId;
+    private Long jobId;
+    private LocalDateTime matchedAt;
+}
@@ -0,0 +1,18 @@
+package com.jobboard.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQuerySampleDTO {
+
+    private String sql;
+    private List<Object> parameters;
+    private double millis;
+    private LocalDateTime executedAt;
+}
@@ -0,0 +1,15 @@
+package com.jobboard.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingJobDTO {
+
+    private JobDTO job;
+    /** Detail views with exponential decay applied; one view is worth half as much after each half-life. */
+    private double score;
+}
@@ -0,0 +1,64 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A job application. Rows are written in batches by {@code ApplicationBatchWriter} rather than through the
+ * entity manager; the unique constraint is what finally enforces one application per applicant per job.
+ */
+@Entity
+@Table(
+    name = "application",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_application_job_applicant", columnNames = {"job_id", "applicant_email"}),
+    indexes = {
+        @jakarta.persistence.Index(name = "idx_application_applicant_email", columnList = "applicant_email")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Application {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "applicant_email", nullable = false)
+    private String applicantEmail;
+
+    @Column(name = "applicant_name", nullable = false)
+    private String applicantName;
+
+    @Column(name = "cover_letter", columnDefinition = "TEXT")
+    private String coverLetter;
+
+    @Column(name = "resume_url", length = 500)
+    private String resumeUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status = ApplicationStatus.PENDING;
+
+    @Column(name = "applied_at", nullable = false, updatable = false)
+    private LocalDateTime appliedAt;
+
+    @Version
+    private Integer version;
+}
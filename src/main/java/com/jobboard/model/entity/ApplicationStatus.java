@@ -0,0 +1,9 @@
+package com.jobboard.model.entity;
+
+public enum ApplicationStatus {
+    PENDING,
+    REVIEWING,
+    INTERVIEWED,
+    ACCEPTED,
+    REJECTED
+}
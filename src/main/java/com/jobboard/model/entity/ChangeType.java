@@ -0,0 +1,13 @@
+package com.jobboard.model.entity;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED;
+
+    /** Whether the job has left the hot {@code job} table with this change. */
+    public boolean removesJob() {
+        return this == DELETED || this == ARCHIVED;
+    }
+}
@@ -33,9 +33,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Table(
     name = "job",
     indexes = {
-        @jakarta.persistence.Index(name = "idx_job_company_id", columnList = "company_id"),
+        @jakarta.persistence.Index(
+            name = "idx_job_company_active_posted", columnList = "company_id, is_active, posted_date, id"),
         @jakarta.persistence.Index(name = "idx_job_is_active", columnList = "is_active"),
-        @jakarta.persistence.Index(name = "idx_job_posted_date", columnList = "posted_date")
+        @jakarta.persistence.Index(name = "idx_job_posted_date", columnList = "posted_date"),
+        @jakarta.persistence.Index(name = "idx_job_duplicate_of_id", columnList = "duplicate_of_id"),
+        @jakarta.persistence.Index(name = "idx_job_expiry_date", columnList = "expiry_date")
     }
 )
 @Data
@@ -101,6 +104,12 @@ public class Job {
     @Column(name = "application_url", length = 500)
     private String applicationUrl;
 
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,29 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Running per-job application total, incremented once per intake batch rather than once per application. */
+@Entity
+@Table(name = "job_application_count")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCount {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
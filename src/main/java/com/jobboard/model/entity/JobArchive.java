@@ -0,0 +1,92 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A job moved out of the hot {@code job} table by {@code JobArchiveService}. Keeps the original id and row
+ * values; it is read-only from the application's point of view.
+ */
+@Entity
+@Table(
+    name = "job_archive",
+    indexes = {
+        @jakarta.persistence.Index(name = "idx_job_archive_company_id", columnList = "company_id")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Column(name = "salary_min", precision = 10, scale = 2)
+    private BigDecimal salaryMin;
+
+    @Column(name = "salary_max", precision = 10, scale = 2)
+    private BigDecimal salaryMax;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level", nullable = false)
+    private ExperienceLevel experienceLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "remote_option", nullable = false)
+    private RemoteOption remoteOption;
+
+    @Column(name = "posted_date", nullable = false)
+    private LocalDateTime postedDate;
+
+    @Column(name = "expiry_date")
+    private LocalDateTime expiryDate;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "application_url", length = 500)
+    private String applicationUrl;
+
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    private Integer version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
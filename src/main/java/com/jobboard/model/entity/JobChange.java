@@ -0,0 +1,50 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "job_change",
+    indexes = {
+        @jakarta.persistence.Index(name = "idx_job_change_job_id", columnList = "job_id"),
+        @jakarta.persistence.Index(name = "idx_job_change_changed_at", columnList = "changed_at"),
+        @jakarta.persistence.Index(name = "idx_job_change_visible_after", columnList = "visible_after")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "job_version")
+    private Integer jobVersion;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    /** Stamped in the database just before the writing transaction commits; see {@code JobChangeRecorder}. */
+    @Column(name = "visible_after", insertable = false, updatable = false)
+    private Long visibleAfter;
+}
@@ -0,0 +1,24 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Single-row watermark: every {@code job_change} with a seq at or below {@code purgedThrough} has been purged. */
+@Entity
+@Table(name = "job_change_purge")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobChangePurge {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "purged_through", nullable = false)
+    private Long purgedThrough;
+}
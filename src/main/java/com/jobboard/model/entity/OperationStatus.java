@@ -0,0 +1,8 @@
+package com.jobboard.model.entity;
+
+public enum OperationStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
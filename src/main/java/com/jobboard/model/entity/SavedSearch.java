@@ -0,0 +1,73 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+    name = "saved_search",
+    indexes = {
+        @jakarta.persistence.Index(name = "idx_saved_search_owner_email", columnList = "owner_email"),
+        @jakarta.persistence.Index(name = "idx_saved_search_created_at", columnList = "created_at")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Owner email is required")
+    @Email(message = "Owner email must be valid")
+    @Column(name = "owner_email", nullable = false)
+    private String ownerEmail;
+
+    private String keyword;
+
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type")
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "experience_level")
+    private ExperienceLevel experienceLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "remote_option")
+    private RemoteOption remoteOption;
+
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(name = "salary_min", precision = 10, scale = 2)
+    private BigDecimal salaryMin;
+
+    @Column(name = "salary_max", precision = 10, scale = 2)
+    private BigDecimal salaryMax;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
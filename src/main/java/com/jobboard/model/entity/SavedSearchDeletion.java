@@ -0,0 +1,31 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Tombstone for a deleted saved search, kept until every node has polled past it. */
+@Entity
+@Table(
+    name = "saved_search_deletion",
+    indexes = {
+        @jakarta.persistence.Index(name = "idx_saved_search_deletion_deleted_at", columnList = "deleted_at")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchDeletion {
+
+    @Id
+    @Column(name = "saved_search_id")
+    private Long savedSearchId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
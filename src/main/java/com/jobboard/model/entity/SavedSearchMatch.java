@@ -0,0 +1,44 @@
+package com.jobboard.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "saved_search_match",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_saved_search_match_search_job", columnNames = {"saved_search_id", "job_id"}),
+    indexes = {
+        @jakarta.persistence.Index(name = "idx_saved_search_match_job_id", columnList = "job_id")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "saved_search_id", nullable = false)
+    private Long savedSearchId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "job_version")
+    private Integer jobVersion;
+
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+}
@@ -0,0 +1,10 @@
+package com.jobboard.repository;
+
+public interface ApplicationKeyView {
+
+    Long getId();
+
+    Long getJobId();
+
+    String getApplicantEmail();
+}
@@ -0,0 +1,23 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.Application;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ApplicationRepository extends JpaRepository<Application, Long> {
+
+    boolean existsByJobIdAndApplicantEmail(Long jobId, String applicantEmail);
+
+    @Query("SELECT a.id AS id, a.jobId AS jobId, a.applicantEmail AS applicantEmail FROM Application a "
+            + "WHERE a.id > :afterId ORDER BY a.id")
+    List<ApplicationKeyView> findNextKeyChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.jobId IN :jobIds")
+    int deleteByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+}
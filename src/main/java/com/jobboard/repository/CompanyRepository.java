@@ -1,10 +1,32 @@
 package com.jobboard.repository;
 
 import com.jobboard.model.entity.Company;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
 
     Optional<Company> findByName(String name);
+
+    List<Company> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("SELECT c.id AS id, c.name AS name, c.location AS location, c.version AS version FROM Company c")
+    List<CompanySummaryView> findAllSummaries();
+
+    @Query("SELECT c.id AS id, c.name AS name, c.location AS location, c.version AS version FROM Company c "
+            + "WHERE c.id = :id")
+    Optional<CompanySummaryView> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT c.id AS id, c.name AS name, c.location AS location, c.version AS version FROM Company c "
+            + "WHERE c.updatedAt >= :since")
+    List<CompanySummaryView> findSummariesUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM Company c WHERE c.id = :id")
+    int deleteCompanyRow(@Param("id") Long id);
 }
@@ -0,0 +1,12 @@
+package com.jobboard.repository;
+
+public interface CompanySummaryView {
+
+    Long getId();
+
+    String getName();
+
+    String getLocation();
+
+    Integer getVersion();
+}
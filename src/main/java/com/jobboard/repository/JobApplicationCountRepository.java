@@ -0,0 +1,15 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.JobApplicationCount;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobApplicationCountRepository extends JpaRepository<JobApplicationCount, Long> {
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationCount c WHERE c.jobId IN :jobIds")
+    int deleteByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+}
@@ -0,0 +1,27 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.JobArchive;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobArchiveRepository extends JpaRepository<JobArchive, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO job_archive (id, title, description, company_id, location, salary_min, salary_max, "
+            + "job_type, experience_level, remote_option, posted_date, expiry_date, is_active, application_url, "
+            + "content_fingerprint, duplicate_of_id, created_at, updated_at, version, archived_at) "
+            + "SELECT j.id, j.title, j.description, j.company_id, j.location, j.salary_min, j.salary_max, "
+            + "j.job_type, j.experience_level, j.remote_option, j.posted_date, j.expiry_date, j.is_active, "
+            + "j.application_url, j.content_fingerprint, j.duplicate_of_id, j.created_at, j.updated_at, j.version, "
+            + ":archivedAt FROM job j WHERE j.id IN (:ids) ON CONFLICT (id) DO NOTHING",
+            nativeQuery = true)
+    int copyFromJobs(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM JobArchive a WHERE a.companyId = :companyId")
+    int deleteByCompanyId(@Param("companyId") Long companyId);
+}
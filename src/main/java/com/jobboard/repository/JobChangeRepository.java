@@ -0,0 +1,72 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.JobChange;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobChangeRepository extends JpaRepository<JobChange, Long> {
+
+    /**
+     * Changes after {@code since}, stopping before the first one that a transaction still in flight could commit
+     * behind: one whose {@code visible_after} is not yet below the oldest running transaction id.
+     */
+    @Query(
+            value = "SELECT c.* FROM job_change c WHERE c.seq > :since AND c.seq < COALESCE("
+                    + "(SELECT MIN(p.seq) FROM job_change p WHERE p.seq > :since "
+                    + "AND p.visible_after > txid_snapshot_xmin(txid_current_snapshot())), "
+                    + "9223372036854775807) "
+                    + "ORDER BY c.seq LIMIT :limit",
+            nativeQuery = true)
+    List<JobChange> findChangesAfter(@Param("since") long since, @Param("limit") int limit);
+
+    /** The seq below which every change has committed and no lower one can still appear. */
+    @Query(
+            value = "SELECT COALESCE("
+                    + "(SELECT MIN(p.seq) - 1 FROM job_change p "
+                    + "WHERE p.visible_after > txid_snapshot_xmin(txid_current_snapshot())), "
+                    + "(SELECT MAX(c.seq) FROM job_change c), 0)",
+            nativeQuery = true)
+    long findFeedHead();
+
+    /** Assigns the current transaction its id now, before it draws any seq, if it has none yet. */
+    @Query(value = "SELECT txid_current()", nativeQuery = true)
+    long assignTransactionId();
+
+    /** Stamps this transaction's changes; rows of other transactions are either stamped or not visible yet. */
+    @Modifying
+    @Query(
+            value = "UPDATE job_change SET visible_after = txid_snapshot_xmax(txid_current_snapshot()) "
+                    + "WHERE visible_after IS NULL",
+            nativeQuery = true)
+    int stampVisibleAfter();
+
+    @Query("SELECT MAX(c.seq) FROM JobChange c WHERE c.changedAt < :before")
+    Long findLastSeqBefore(@Param("before") LocalDateTime before);
+
+    @Query(value = "SELECT purged_through FROM job_change_purge WHERE id = 1", nativeQuery = true)
+    Long findPurgedThrough();
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO job_change_purge (id, purged_through) VALUES (1, :seq) "
+                    + "ON CONFLICT (id) DO UPDATE "
+                    + "SET purged_through = GREATEST(job_change_purge.purged_through, EXCLUDED.purged_through)",
+            nativeQuery = true)
+    int advancePurgedThrough(@Param("seq") long seq);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO job_change (job_id, change_type, job_version, changed_at) "
+                    + "SELECT j.id, 'DELETED', j.version, :changedAt FROM job j WHERE j.id IN (:jobIds)",
+            nativeQuery = true)
+    int insertTombstones(@Param("jobIds") Collection<Long> jobIds, @Param("changedAt") LocalDateTime changedAt);
+
+    @Modifying
+    @Query("DELETE FROM JobChange c WHERE c.seq <= :seq")
+    int deleteThrough(@Param("seq") long seq);
+}
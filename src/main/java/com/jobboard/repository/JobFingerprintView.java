@@ -0,0 +1,10 @@
+package com.jobboard.repository;
+
+public interface JobFingerprintView {
+
+    Long getId();
+
+    Long getCompanyId();
+
+    Long getContentFingerprint();
+}
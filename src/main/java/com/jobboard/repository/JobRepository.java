@@ -1,24 +1,91 @@
 package com.jobboard.repository;
 
 import com.jobboard.model.entity.Job;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
-
-    List<Job> findByCompanyId(Long companyId);
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
 
     @Query("SELECT j FROM Job j JOIN FETCH j.company")
     List<Job> findAllWithCompany();
 
-    @Query(value = "SELECT j FROM Job j JOIN FETCH j.company", countQuery = "SELECT COUNT(j) FROM Job j")
-    Page<Job> findAllWithCompany(Pageable pageable);
-
     @Query(
-            value = "SELECT j FROM Job j JOIN FETCH j.company WHERE j.isActive = true AND (j.expiryDate IS NULL OR j.expiryDate > CURRENT_TIMESTAMP)",
-            countQuery = "SELECT COUNT(j) FROM Job j WHERE j.isActive = true AND (j.expiryDate IS NULL OR j.expiryDate > CURRENT_TIMESTAMP)")
+            value = "SELECT j FROM Job j WHERE j.isActive = true "
+                    + "AND (j.expiryDate IS NULL OR j.expiryDate > CURRENT_TIMESTAMP)",
+            countQuery = "SELECT COUNT(j) FROM Job j WHERE j.isActive = true "
+                    + "AND (j.expiryDate IS NULL OR j.expiryDate > CURRENT_TIMESTAMP)")
     Page<Job> findActiveJobs(Pageable pageable);
+
+    @Query("SELECT j FROM Job j JOIN FETCH j.company WHERE j.id > :afterId ORDER BY j.id")
+    List<Job> findNextChunkWithCompany(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT j FROM Job j JOIN FETCH j.company WHERE j.updatedAt >= :since")
+    List<Job> findUpdatedSinceWithCompany(@Param("since") LocalDateTime since);
+
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids")
+    List<Job> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Row-locks the jobs in id order, so concurrent batches touching overlapping ids cannot deadlock. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE j.id IN :ids ORDER BY j.id")
+    List<Job> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT j.id FROM Job j")
+    List<Long> findAllIds();
+
+    @Query("SELECT j.id FROM Job j WHERE j.company.id = :companyId ORDER BY j.id")
+    List<Long> findIdsByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    @Query("SELECT j FROM Job j WHERE j.id > :afterId ORDER BY j.id")
+    List<Job> findNextChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT j.id AS id, j.company.id AS companyId, j.contentFingerprint AS contentFingerprint FROM Job j "
+            + "WHERE j.contentFingerprint IS NOT NULL AND j.id > :afterId ORDER BY j.id")
+    List<JobFingerprintView> findNextFingerprintChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT j.id AS id, j.company.id AS companyId, j.contentFingerprint AS contentFingerprint FROM Job j "
+            + "WHERE j.company.id = :companyId AND j.contentFingerprint IS NOT NULL")
+    List<JobFingerprintView> findFingerprintsByCompanyId(@Param("companyId") Long companyId);
+
+    @Query("SELECT j.id AS id, j.company.id AS companyId, j.contentFingerprint AS contentFingerprint FROM Job j "
+            + "WHERE j.company.id = :companyId AND j.contentFingerprint IS NOT NULL "
+            + "AND j.id IN (SELECT c.jobId FROM JobChange c WHERE c.seq > :afterSeq)")
+    List<JobFingerprintView> findFingerprintsChangedAfter(
+            @Param("companyId") Long companyId, @Param("afterSeq") long afterSeq);
+
+    /** Takes transaction-scoped advisory locks on the keys, in ascending order so callers cannot deadlock. */
+    @Query(
+            value = "SELECT COUNT(*) FROM (SELECT DISTINCT unnest(ARRAY[:keys]) AS k ORDER BY k) keys "
+                    + "CROSS JOIN LATERAL pg_advisory_xact_lock(keys.k)",
+            nativeQuery = true)
+    long lockFingerprintBands(@Param("keys") Collection<Long> keys);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.contentFingerprint = :fingerprint WHERE j.id = :id")
+    int updateContentFingerprint(@Param("id") Long id, @Param("fingerprint") Long fingerprint);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.duplicateOfId = :duplicateOfId WHERE j.id = :id AND j.duplicateOfId IS NULL")
+    int markDuplicate(@Param("id") Long id, @Param("duplicateOfId") Long duplicateOfId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.isActive = false, j.version = j.version + 1, j.updatedAt = :now "
+            + "WHERE j.id IN :ids AND j.isActive = true")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /** Inactive or expired jobs untouched since {@code cutoff}, locked; rows locked elsewhere are skipped. */
+    @Query(value = "SELECT j.id FROM job j "
+            + "WHERE (j.is_active = false AND COALESCE(j.updated_at, j.created_at) < :cutoff) "
+            + "OR j.expiry_date < :cutoff ORDER BY j.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
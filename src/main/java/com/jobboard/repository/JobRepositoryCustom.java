@@ -0,0 +1,22 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.dto.JobBulkFilterDTO;
+import com.jobboard.model.entity.Job;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobRepositoryCustom {
+
+    /**
+     * Returns the next ids (ascending, after {@code afterId}) of jobs matching the filter and locks those rows
+     * for the rest of the transaction, so they cannot stop matching before the caller acts on them.
+     */
+    List<Long> lockNextMatchingIds(JobBulkFilterDTO filter, boolean activeOnly, long afterId, int limit);
+
+    /**
+     * One keyset page of a company's jobs ordered by {@code (postedDate, id)}, with companies fetched. Pass
+     * {@code null} cursor values for the first page; otherwise the page starts after that position.
+     */
+    List<Job> findCompanyJobsPage(Long companyId, boolean activeOnly, boolean ascending,
+            LocalDateTime afterPostedDate, Long afterId, int limit);
+}
@@ -0,0 +1,104 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.dto.JobBulkFilterDTO;
+import com.jobboard.model.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> lockNextMatchingIds(JobBulkFilterDTO filter, boolean activeOnly, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> job = query.from(Job.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(job.get("id"), afterId));
+        if (activeOnly) {
+            predicates.add(cb.isTrue(job.get("isActive")));
+        }
+        if (filter.getIds() != null && !filter.getIds().isEmpty()) {
+            predicates.add(job.get("id").in(filter.getIds()));
+        }
+        if (filter.getCompanyId() != null) {
+            predicates.add(cb.equal(job.get("company").get("id"), filter.getCompanyId()));
+        }
+        if (filter.getJobType() != null) {
+            predicates.add(cb.equal(job.get("jobType"), filter.getJobType()));
+        }
+        if (filter.getExperienceLevel() != null) {
+            predicates.add(cb.equal(job.get("experienceLevel"), filter.getExperienceLevel()));
+        }
+        if (filter.getRemoteOption() != null) {
+            predicates.add(cb.equal(job.get("remoteOption"), filter.getRemoteOption()));
+        }
+        if (filter.getIsActive() != null) {
+            predicates.add(cb.equal(job.get("isActive"), filter.getIsActive()));
+        }
+        if (filter.getLocation() != null && !filter.getLocation().isBlank()) {
+            predicates.add(cb.equal(cb.lower(job.get("location")), filter.getLocation().trim().toLowerCase()));
+        }
+        if (filter.getPostedBefore() != null) {
+            predicates.add(cb.lessThan(job.get("postedDate"), filter.getPostedBefore()));
+        }
+        if (filter.getPostedAfter() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(job.get("postedDate"), filter.getPostedAfter()));
+        }
+        if (filter.getExpiresBefore() != null) {
+            predicates.add(cb.lessThan(job.get("expiryDate"), filter.getExpiresBefore()));
+        }
+
+        query.select(job.get("id"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(job.get("id")));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Job> findCompanyJobsPage(Long companyId, boolean activeOnly, boolean ascending,
+            LocalDateTime afterPostedDate, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = cb.createQuery(Job.class);
+        Root<Job> job = query.from(Job.class);
+        Path<LocalDateTime> postedDate = job.get("postedDate");
+        Path<Long> id = job.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(job.get("company").get("id"), companyId));
+        if (activeOnly) {
+            predicates.add(cb.isTrue(job.get("isActive")));
+        }
+        if (afterPostedDate != null && afterId != null) {
+            predicates.add(ascending
+                    ? cb.or(cb.greaterThan(postedDate, afterPostedDate),
+                            cb.and(cb.equal(postedDate, afterPostedDate), cb.greaterThan(id, afterId)))
+                    : cb.or(cb.lessThan(postedDate, afterPostedDate),
+                            cb.and(cb.equal(postedDate, afterPostedDate), cb.lessThan(id, afterId))));
+        }
+
+        query.select(job)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending
+                        ? List.of(cb.asc(postedDate), cb.asc(id))
+                        : List.of(cb.desc(postedDate), cb.desc(id)));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
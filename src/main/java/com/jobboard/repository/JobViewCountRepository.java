@@ -0,0 +1,15 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.JobViewCount;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobViewCountRepository extends JpaRepository<JobViewCount, Long> {
+
+    @Modifying
+    @Query("DELETE FROM JobViewCount v WHERE v.jobId IN :jobIds")
+    int deleteByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+}
@@ -0,0 +1,19 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.SavedSearchDeletion;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavedSearchDeletionRepository extends JpaRepository<SavedSearchDeletion, Long> {
+
+    @Query("SELECT d.savedSearchId FROM SavedSearchDeletion d WHERE d.deletedAt >= :since")
+    List<Long> findIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchDeletion d WHERE d.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,23 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.SavedSearchMatch;
+import java.util.Collection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatch, Long> {
+
+    Page<SavedSearchMatch> findBySavedSearchId(Long savedSearchId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.savedSearchId = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+
+    @Modifying
+    @Query("DELETE FROM SavedSearchMatch m WHERE m.jobId IN :jobIds")
+    int deleteByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+}
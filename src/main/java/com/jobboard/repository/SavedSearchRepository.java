@@ -0,0 +1,20 @@
+package com.jobboard.repository;
+
+import com.jobboard.model.entity.SavedSearch;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    Page<SavedSearch> findByOwnerEmail(String ownerEmail, Pageable pageable);
+
+    @Query("SELECT s FROM SavedSearch s WHERE s.id > :afterId ORDER BY s.id")
+    List<SavedSearch> findNextChunk(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<SavedSearch> findByCreatedAtGreaterThanEqual(LocalDateTime since);
+}
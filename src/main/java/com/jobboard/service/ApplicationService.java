@@ -0,0 +1,112 @@
+package com.jobboard.service;
+
+import com.jobboard.exception.ApplicationNotFoundException;
+import com.jobboard.exception.DuplicateApplicationException;
+import com.jobboard.exception.JobClosedException;
+import com.jobboard.exception.JobNotFoundException;
+import com.jobboard.model.dto.ApplicationCountDTO;
+import com.jobboard.model.dto.ApplicationCreateDTO;
+import com.jobboard.model.dto.ApplicationDTO;
+import com.jobboard.model.entity.Application;
+import com.jobboard.model.entity.Job;
+import com.jobboard.model.entity.JobApplicationCount;
+import com.jobboard.repository.ApplicationRepository;
+import com.jobboard.repository.JobApplicationCountRepository;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.service.catalog.JobCatalog;
+import com.jobboard.service.catalog.JobCatalogEntry;
+import com.jobboard.service.intake.ApplicationBatchWriter;
+import com.jobboard.service.intake.ApplicationDuplicateFilter;
+import com.jobboard.util.ApplicationMapper;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class ApplicationService {
+
+    private final ApplicationRepository applicationRepository;
+    private final JobApplicationCountRepository jobApplicationCountRepository;
+    private final JobRepository jobRepository;
+    private final JobCatalog jobCatalog;
+    private final ApplicationDuplicateFilter duplicateFilter;
+    private final ApplicationBatchWriter batchWriter;
+    private final ApplicationMapper applicationMapper;
+
+    public ApplicationService(
+            ApplicationRepository applicationRepository,
+            JobApplicationCountRepository jobApplicationCountRepository,
+            JobRepository jobRepository,
+            JobCatalog jobCatalog,
+            ApplicationDuplicateFilter duplicateFilter,
+            ApplicationBatchWriter batchWriter,
+            ApplicationMapper applicationMapper) {
+        this.applicationRepository = applicationRepository;
+        this.jobApplicationCountRepository = jobApplicationCountRepository;
+        this.jobRepository = jobRepository;
+        this.jobCatalog = jobCatalog;
+        this.duplicateFilter = duplicateFilter;
+        this.batchWriter = batchWriter;
+        this.applicationMapper = applicationMapper;
+    }
+
+    /**
+     * Validates against the in-memory catalog, falling back to the database when the catalog has not seen the
+     * job or believes it closed (it may lag behind changes made on another node), then claims the (job, applicant)
+     * pair and hands the application to the batch writer. Runs outside a transaction: the write happens on the
+     * writer thread, and the returned future completes once the batch holding it has committed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<ApplicationDTO> apply(ApplicationCreateDTO dto) {
+        requireLiveJob(dto.getJobId());
+        Application application = applicationMapper.toEntity(dto);
+        ApplicationDuplicateFilter.Key key =
+                new ApplicationDuplicateFilter.Key(application.getJobId(), application.getApplicantEmail());
+        if (!duplicateFilter.tryReserve(key)) {
+            throw new DuplicateApplicationException(dto.getJobId());
+        }
+        CompletableFuture<Application> stored;
+        try {
+            stored = batchWriter.submit(application);
+        } catch (RuntimeException e) {
+            duplicateFilter.release(key, false);
+            throw e;
+        }
+        return stored
+                .whenComplete((result, error) -> duplicateFilter.release(key,
+                        result != null || error instanceof DuplicateApplicationException))
+                .thenApply(applicationMapper::toDTO);
+    }
+
+    public ApplicationDTO getApplicationById(Long id) {
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new ApplicationNotFoundException(id));
+        return applicationMapper.toDTO(application);
+    }
+
+    public ApplicationCountDTO getApplicationCount(Long jobId) {
+        long count = jobApplicationCountRepository.findById(jobId)
+                .map(JobApplicationCount::getApplicationCount)
+                .orElse(0L);
+        return new ApplicationCountDTO(jobId, count);
+    }
+
+    private void requireLiveJob(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<JobCatalogEntry> cached = jobCatalog.get(jobId);
+        if (cached.isPresent() && cached.get().isLive(now)) {
+            return;
+        }
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException(jobId));
+        boolean live = Boolean.TRUE.equals(job.getIsActive())
+                && (job.getExpiryDate() == null || job.getExpiryDate().isAfter(now));
+        if (!live) {
+            throw new JobClosedException(jobId);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.jobboard.service;
+
+import com.jobboard.event.ChangeEvent;
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.JobChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Moves committed job and company changes off the request thread. The after-commit listener only enqueues;
+ * one dispatcher thread drains whatever has accumulated, up to {@code batch-size}, and hands the batch to
+ * every {@link ChangeSubscriber} in turn. A subscriber that throws is logged and the others still run.
+ *
+ * <p>Changes committed on other nodes arrive through {@link #deliverFeed} from {@link JobChangeFeedTailer}. The
+ * sequence numbers of job changes seen here after commit are remembered until the tailer has passed them, so
+ * the feed only carries changes this node has not delivered; subscribers that opt out of
+ * {@link ChangeSubscriber#receivesRemoteChanges() remote changes} only get the feed's copies of their own.
+ *
+ * <p>The queue is bounded and the committing thread never waits for it: it still holds its request and
+ * connection. A job change that does not fit is dropped and marked for resync, and the tailer delivers it
+ * from {@code job_change} to every subscriber a few seconds later. Dropped company changes are recovered by
+ * {@code CompanySummaryCache}'s periodic refresh.
+ */
+@Component
+public class ChangeEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventDispatcher.class);
+
+    private record Delivery(ChangeSubscriber subscriber, Timer timer) {
+    }
+
+    /** A change, or with a null {@code event} a marker that the feed has been queued up to {@code feedMark}. */
+    private record Queued(ChangeEvent event, boolean remote, long feedMark) {
+
+        private Queued(ChangeEvent event, boolean remote) {
+            this(event, remote, -1);
+        }
+    }
+
+    private final List<Delivery> deliveries = new ArrayList<>();
+    private final BlockingQueue<Queued> queue;
+    private final ConcurrentNavigableMap<Long, Boolean> delivered = new ConcurrentSkipListMap<>();
+    /** Size of {@code delivered}, which the skip list itself can only count by walking it. */
+    private final AtomicInteger trackedChanges = new AtomicInteger();
+    private final int maxTrackedChanges;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final ExecutorService dispatcher;
+    private final DistributionSummary batchSizes;
+    private final Counter overflows;
+    private volatile boolean running = true;
+    private volatile long feedAppliedThrough = -1;
+
+    public ChangeEventDispatcher(
+            List<ChangeSubscriber> subscribers,
+            MeterRegistry meterRegistry,
+            @Value("${jobboard.events.queue-capacity:10000}") int queueCapacity,
+            @Value("${jobboard.events.batch-size:256}") int batchSize,
+            @Value("${jobboard.events.max-tracked-changes:100000}") int maxTrackedChanges,
+            @Value("${jobboard.events.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        for (ChangeSubscriber subscriber : subscribers) {
+            Timer timer = Timer.builder("jobboard.events.delivery")
+                    .tag("subscriber", ClassUtils.getUserClass(subscriber).getSimpleName())
+                    .register(meterRegistry);
+            deliveries.add(new Delivery(subscriber, timer));
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxTrackedChanges = maxTrackedChanges;
+        this.shutdownTimeout = shutdownTimeout;
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("jobboard.events.batch.size").register(meterRegistry);
+        this.overflows = meterRegistry.counter("jobboard.events.overflows");
+        Gauge.builder("jobboard.events.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        dispatcher.execute(this::drain);
+    }
+
+    @TransactionalEventListener
+    public void onCommitted(ChangeEvent event) {
+        if (!running) {
+            log.warn("Change dispatcher stopped; dropping {}", event);
+            return;
+        }
+        Long seq = event instanceof JobChangedEvent job ? job.seq() : null;
+        boolean tracked = seq != null && trackedChanges.get() < maxTrackedChanges;
+        if (tracked) {
+            track(seq, Boolean.TRUE);
+        }
+        if (!queue.offer(new Queued(event, false))) {
+            overflows.increment();
+            if (tracked) {
+                track(seq, Boolean.FALSE);
+            }
+            log.debug("Change queue full; {} left to resync", event);
+        }
+    }
+
+    /**
+     * Queues changes read back from the change feed and forgets every tracked sequence number up to
+     * {@code upTo}, the feed cursor after this read. Changes already delivered after a local commit are skipped;
+     * local changes that were dropped go to every subscriber, the rest only to those receiving remote changes.
+     * Called by the tailer, which holds no connection while it waits for room.
+     */
+    public void deliverFeed(List<JobChangedEvent> changes, long upTo) throws InterruptedException {
+        for (JobChangedEvent change : changes) {
+            Boolean seen = delivered.remove(change.seq());
+            if (seen != null) {
+                trackedChanges.decrementAndGet();
+            }
+            if (!Boolean.TRUE.equals(seen) && running) {
+                queue.put(new Queued(change, seen == null));
+            }
+        }
+        for (Long seq : delivered.headMap(upTo, true).keySet()) {
+            if (delivered.remove(seq) != null) {
+                trackedChanges.decrementAndGet();
+            }
+        }
+        if (running && upTo > feedAppliedThrough) {
+            queue.put(new Queued(null, true, upTo));
+        }
+    }
+
+    /**
+     * Every job change with a seq up to this one has been applied by all subscribers, whether it was committed
+     * here or on another node; -1 until the tailer's first read has been delivered.
+     */
+    public long feedAppliedThrough() {
+        return feedAppliedThrough;
+    }
+
+    /** Queues a change read back from the database for the subscribers that receive remote changes. */
+    public void deliverRemote(ChangeEvent change) throws InterruptedException {
+        if (running) {
+            queue.put(new Queued(change, true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Change dispatcher did not drain within {}; {} changes not delivered",
+                    shutdownTimeout, queue.size());
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void track(long seq, Boolean deliveredLocally) {
+        if (delivered.put(seq, deliveredLocally) == null) {
+            trackedChanges.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Queued first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<Queued> batch) {
+        batchSizes.record(batch.size());
+        List<ChangeEvent> all = new ArrayList<>(batch.size());
+        List<ChangeEvent> local = new ArrayList<>(batch.size());
+        long feedMark = -1;
+        for (Queued queued : batch) {
+            if (queued.event() == null) {
+                feedMark = Math.max(feedMark, queued.feedMark());
+                continue;
+            }
+            all.add(queued.event());
+            if (!queued.remote()) {
+                local.add(queued.event());
+            }
+        }
+        List<ChangeEvent> allChanges = List.copyOf(all);
+        List<ChangeEvent> localChanges = local.size() == all.size() ? allChanges : List.copyOf(local);
+        for (Delivery delivery : deliveries) {
+            List<ChangeEvent> changes = delivery.subscriber().receivesRemoteChanges() ? allChanges : localChanges;
+            if (changes.isEmpty()) {
+                continue;
+            }
+            try {
+                delivery.timer().record(() -> delivery.subscriber().onChanges(changes));
+            } catch (RuntimeException e) {
+                log.error("{} failed to apply {} changes",
+                        ClassUtils.getUserClass(delivery.subscriber()).getSimpleName(), changes.size(), e);
+            }
+        }
+        if (feedMark > feedAppliedThrough) {
+            feedAppliedThrough = feedMark;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.jobboard.service;
+
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.exception.OperationInProgressException;
+import com.jobboard.exception.OperationNotFoundException;
+import com.jobboard.model.dto.CompanyDeletionDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.OperationStatus;
+import com.jobboard.repository.CompanyRepository;
+import com.jobboard.repository.JobArchiveRepository;
+import com.jobboard.repository.JobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes a company and its jobs without loading them: job ids are taken in chunks and each chunk is removed
+ * with set-based statements (tombstones, alert matches, applications and their counts, view counts, jobs) in
+ * its own short transaction. The company row
+ * itself goes last, together with any jobs created while the chunks were running.
+ */
+@Service
+public class CompanyDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyDeletionService.class);
+
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final JobChangeRecorder jobChangeRecorder;
+    private final JobArchiveRepository jobArchiveRepository;
+    private final JobDependentRowsDeleter jobDependentRowsDeleter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor companyDeletionExecutor;
+    private final int chunkSize;
+    private final Duration operationRetention;
+    private final ConcurrentMap<String, CompanyDeletionDTO> operations = new ConcurrentHashMap<>();
+
+    public CompanyDeletionService(
+            JobRepository jobRepository,
+            CompanyRepository companyRepository,
+            JobChangeRecorder jobChangeRecorder,
+            JobArchiveRepository jobArchiveRepository,
+            JobDependentRowsDeleter jobDependentRowsDeleter,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("companyDeletionExecutor") Executor companyDeletionExecutor,
+            @Value("${jobboard.company-deletion.chunk-size:1000}") int chunkSize,
+            @Value("${jobboard.company-deletion.operation-retention:PT1H}") Duration operationRetention) {
+        this.jobRepository = jobRepository;
+        this.companyRepository = companyRepository;
+        this.jobChangeRecorder = jobChangeRecorder;
+        this.jobArchiveRepository = jobArchiveRepository;
+        this.jobDependentRowsDeleter = jobDependentRowsDeleter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.companyDeletionExecutor = companyDeletionExecutor;
+        this.chunkSize = chunkSize;
+        this.operationRetention = operationRetention;
+    }
+
+    /** Deletes the company and returns the number of jobs removed; a missing company is a no-op. */
+    public long deleteCompany(Long companyId) {
+        return deleteCompany(companyId, deleted -> { });
+    }
+
+    public CompanyDeletionDTO deleteCompanyAsync(Long companyId) {
+        purgeFinishedOperations();
+        String operationId = UUID.randomUUID().toString();
+        CompanyDeletionDTO operation = new CompanyDeletionDTO(
+                operationId, companyId, OperationStatus.PENDING, 0, LocalDateTime.now(), null, null);
+        operations.put(operationId, operation);
+        try {
+            companyDeletionExecutor.execute(() -> runOperation(operationId, companyId));
+        } catch (RejectedExecutionException ex) {
+            operations.remove(operationId);
+            throw new OperationInProgressException("Too many company deletions are queued; try again later");
+        }
+        return operation;
+    }
+
+    public CompanyDeletionDTO getOperation(String operationId) {
+        CompanyDeletionDTO operation = operations.get(operationId);
+        if (operation == null) {
+            throw new OperationNotFoundException(operationId);
+        }
+        return operation;
+    }
+
+    private long deleteCompany(Long companyId, LongConsumer progress) {
+        long deleted = 0;
+        while (true) {
+            Integer removed = transactionTemplate.execute(status -> deleteJobChunk(companyId));
+            if (removed == null || removed == 0) {
+                break;
+            }
+            deleted += removed;
+            progress.accept(deleted);
+        }
+        Integer stragglers = transactionTemplate.execute(status -> {
+            int removed = 0;
+            int chunk;
+            while ((chunk = deleteJobChunk(companyId)) > 0) {
+                removed += chunk;
+            }
+            jobArchiveRepository.deleteByCompanyId(companyId);
+            if (companyRepository.deleteCompanyRow(companyId) > 0) {
+                eventPublisher.publishEvent(new CompanyChangedEvent(ChangeType.DELETED, companyId, null, null));
+            }
+            return removed;
+        });
+        return deleted + (stragglers != null ? stragglers : 0);
+    }
+
+    private int deleteJobChunk(Long companyId) {
+        List<Long> jobIds = jobRepository.findIdsByCompanyId(companyId, PageRequest.ofSize(chunkSize));
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        jobChangeRecorder.recordTombstones(jobIds);
+        jobDependentRowsDeleter.deleteFor(jobIds);
+        jobRepository.deleteAllByIdInBatch(jobIds);
+        return jobIds.size();
+    }
+
+    private void runOperation(String operationId, Long companyId) {
+        operations.computeIfPresent(operationId,
+                (id, op) -> withStatus(op, OperationStatus.RUNNING, op.getJobsDeleted(), null));
+        try {
+            long deleted = deleteCompany(companyId, progress -> operations.computeIfPresent(
+                    operationId, (id, op) -> withStatus(op, OperationStatus.RUNNING, progress, null)));
+            operations.computeIfPresent(operationId,
+                    (id, op) -> withStatus(op, OperationStatus.COMPLETED, deleted, null));
+        } catch (RuntimeException ex) {
+            log.error("Company deletion {} for company {} failed", operationId, companyId, ex);
+            operations.computeIfPresent(operationId,
+                    (id, op) -> withStatus(op, OperationStatus.FAILED, op.getJobsDeleted(), ex.getMessage()));
+        }
+    }
+
+    private static CompanyDeletionDTO withStatus(
+            CompanyDeletionDTO operation, OperationStatus status, long jobsDeleted, String error) {
+        boolean finished = status == OperationStatus.COMPLETED || status == OperationStatus.FAILED;
+        return new CompanyDeletionDTO(operation.getOperationId(), operation.getCompanyId(), status, jobsDeleted,
+                operation.getStartedAt(), finished ? LocalDateTime.now() : null, error);
+    }
+
+    private void purgeFinishedOperations() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(operationRetention);
+        operations.values().removeIf(op -> op.getFinishedAt() != null && op.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -1,15 +1,20 @@
 package com.jobboard.service;
 
+import com.jobboard.event.CompanyChangedEvent;
 import com.jobboard.exception.CompanyNotFoundException;
 import com.jobboard.model.dto.CompanyCreateDTO;
 import com.jobboard.model.dto.CompanyDTO;
+import com.jobboard.model.dto.CompanyDeletionDTO;
 import com.jobboard.model.dto.CompanyUpdateDTO;
+import com.jobboard.model.entity.ChangeType;
 import com.jobboard.model.entity.Company;
 import com.jobboard.repository.CompanyRepository;
 import com.jobboard.util.CompanyMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -17,11 +22,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final CompanyDeletionService companyDeletionService;
     private final CompanyMapper companyMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticUpdateRetrier optimisticUpdateRetrier;
 
-    public CompanyService(CompanyRepository companyRepository, CompanyMapper companyMapper) {
+    public CompanyService(
+            CompanyRepository companyRepository,
+            CompanyDeletionService companyDeletionService,
+            CompanyMapper companyMapper,
+            ApplicationEventPublisher eventPublisher,
+            OptimisticUpdateRetrier optimisticUpdateRetrier) {
         this.companyRepository = companyRepository;
+        this.companyDeletionService = companyDeletionService;
         this.companyMapper = companyMapper;
+        this.eventPublisher = eventPublisher;
+        this.optimisticUpdateRetrier = optimisticUpdateRetrier;
     }
 
     @Transactional(readOnly = true)
@@ -39,18 +55,49 @@ public class CompanyService {
     public CompanyDTO createCompany(CompanyCreateDTO dto) {
         Company entity = companyMapper.toEntity(dto);
         Company saved = companyRepository.save(entity);
+        publishChange(ChangeType.CREATED, saved);
         return companyMapper.toDTO(saved);
     }
 
+    /**
+     * Runs outside the class-level transaction so {@link OptimisticUpdateRetrier} can retry in fresh
+     * transactions when a concurrent edit touched other fields.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CompanyDTO updateCompany(Long id, CompanyUpdateDTO dto) {
-        Company company = companyRepository.findById(id)
-                .orElseThrow(() -> new CompanyNotFoundException(id));
-        companyMapper.updateEntityFromDTO(company, dto);
-        Company saved = companyRepository.save(company);
-        return companyMapper.toDTO(saved);
+        return optimisticUpdateRetrier.execute(
+                "company",
+                companyMapper.requestedValues(dto),
+                () -> companyRepository.findById(id).orElseThrow(() -> new CompanyNotFoundException(id)),
+                companyMapper::snapshot,
+                company -> {
+                    companyMapper.updateEntityFromDTO(company, dto);
+                    Company saved = companyRepository.saveAndFlush(company);
+                    publishChange(ChangeType.UPDATED, saved);
+                    return companyMapper.toDTO(saved);
+                });
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteCompany(Long id) {
-        companyRepository.findById(id).ifPresent(companyRepository::delete);
+        companyDeletionService.deleteCompany(id);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompanyDeletionDTO deleteCompanyAsync(Long id) {
+        if (!companyRepository.existsById(id)) {
+            throw new CompanyNotFoundException(id);
+        }
+        return companyDeletionService.deleteCompanyAsync(id);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompanyDeletionDTO getDeletion(String operationId) {
+        return companyDeletionService.getOperation(operationId);
+    }
+
+    private void publishChange(ChangeType type, Company company) {
+        eventPublisher.publishEvent(new CompanyChangedEvent(
+                type, company.getId(), company.getVersion(), companyMapper.toSummaryDTO(company)));
     }
 }
@@ -0,0 +1,104 @@
+package com.jobboard.service;
+
+import com.jobboard.exception.OperationInProgressException;
+import com.jobboard.model.dto.BulkJobResultDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.Job;
+import com.jobboard.repository.JobArchiveRepository;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.repository.SavedSearchMatchRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves jobs that have been inactive or expired for longer than {@code jobboard.archive.after} from {@code job}
+ * into {@code job_archive}, one chunk per transaction, so the hot table and its indexes only hold the live
+ * catalog. Archived jobs stay readable through {@code GET /api/jobs/{id}}.
+ */
+@Service
+public class JobArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobArchiveService.class);
+
+    private final JobRepository jobRepository;
+    private final JobArchiveRepository jobArchiveRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final JobChangeRecorder jobChangeRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public JobArchiveService(
+            JobRepository jobRepository,
+            JobArchiveRepository jobArchiveRepository,
+            SavedSearchMatchRepository savedSearchMatchRepository,
+            JobChangeRecorder jobChangeRecorder,
+            PlatformTransactionManager transactionManager,
+            @Value("${jobboard.archive.after:P90D}") Duration archiveAfter,
+            @Value("${jobboard.archive.chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.jobArchiveRepository = jobArchiveRepository;
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.jobChangeRecorder = jobChangeRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveAfter = archiveAfter;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${jobboard.archive.cron:0 0 4 * * *}")
+    public void scheduledArchive() {
+        try {
+            log.info("Scheduled job archival: {}", archive());
+        } catch (OperationInProgressException ex) {
+            log.info("Skipping scheduled job archival: {}", ex.getMessage());
+        }
+    }
+
+    public BulkJobResultDTO archive() {
+        if (!running.compareAndSet(false, true)) {
+            throw new OperationInProgressException("Job archival is already running");
+        }
+        long started = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+        long archived = 0;
+        int batches = 0;
+        try {
+            while (true) {
+                Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                batches++;
+            }
+        } finally {
+            running.set(false);
+        }
+        return new BulkJobResultDTO(archived, batches, System.currentTimeMillis() - started);
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = jobRepository.lockArchivableIds(cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Job> jobs = jobRepository.findAllByIdIn(ids);
+        jobArchiveRepository.copyFromJobs(ids, LocalDateTime.now());
+        savedSearchMatchRepository.deleteByJobIdIn(ids);
+        jobRepository.deleteAllByIdInBatch(ids);
+        for (Job job : jobs) {
+            jobChangeRecorder.record(ChangeType.ARCHIVED, job);
+        }
+        return ids.size();
+    }
+}
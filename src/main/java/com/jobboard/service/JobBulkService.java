@@ -0,0 +1,124 @@
+package com.jobboard.service;
+
+import com.jobboard.exception.InvalidJobDataException;
+import com.jobboard.model.dto.BulkJobResultDTO;
+import com.jobboard.model.dto.JobBulkFilterDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.Job;
+import com.jobboard.repository.JobRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moderation actions over every job matching a filter. Matching ids are locked and processed in chunks, each in
+ * its own transaction, with one set-based UPDATE or DELETE per chunk. Deactivation bumps {@code version} in the
+ * statement itself, so an editor holding an older version still gets an optimistic-lock conflict.
+ */
+@Service
+public class JobBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobBulkService.class);
+
+    private final JobRepository jobRepository;
+    private final JobDependentRowsDeleter jobDependentRowsDeleter;
+    private final JobChangeRecorder jobChangeRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public JobBulkService(
+            JobRepository jobRepository,
+            JobDependentRowsDeleter jobDependentRowsDeleter,
+            JobChangeRecorder jobChangeRecorder,
+            PlatformTransactionManager transactionManager,
+            @Value("${jobboard.bulk.chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.jobDependentRowsDeleter = jobDependentRowsDeleter;
+        this.jobChangeRecorder = jobChangeRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkJobResultDTO deactivate(JobBulkFilterDTO filter) {
+        requireCriteria(filter);
+        BulkJobResultDTO result = run(filter, true, this::deactivateChunk);
+        log.info("Bulk deactivation {}: {}", filter, result);
+        return result;
+    }
+
+    public BulkJobResultDTO delete(JobBulkFilterDTO filter) {
+        requireCriteria(filter);
+        BulkJobResultDTO result = run(filter, false, this::deleteChunk);
+        log.info("Bulk deletion {}: {}", filter, result);
+        return result;
+    }
+
+    private BulkJobResultDTO run(JobBulkFilterDTO filter, boolean activeOnly, ChunkAction action) {
+        long started = System.currentTimeMillis();
+        long affected = 0;
+        int batches = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            long[] chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = jobRepository.lockNextMatchingIds(filter, activeOnly, cursor, chunkSize);
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                return new long[] {ids.get(ids.size() - 1), action.apply(ids)};
+            });
+            if (chunk == null) {
+                break;
+            }
+            afterId = chunk[0];
+            affected += chunk[1];
+            batches++;
+        }
+        return new BulkJobResultDTO(affected, batches, System.currentTimeMillis() - started);
+    }
+
+    private int deactivateChunk(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = jobRepository.deactivateByIdIn(ids, now);
+        for (Job job : jobRepository.findAllByIdIn(ids)) {
+            jobChangeRecorder.record(ChangeType.UPDATED, job);
+        }
+        return updated;
+    }
+
+    private int deleteChunk(List<Long> ids) {
+        List<Job> jobs = jobRepository.findAllByIdIn(ids);
+        jobDependentRowsDeleter.deleteFor(ids);
+        jobRepository.deleteAllByIdInBatch(ids);
+        for (Job job : jobs) {
+            jobChangeRecorder.record(ChangeType.DELETED, job);
+        }
+        return jobs.size();
+    }
+
+    private static void requireCriteria(JobBulkFilterDTO filter) {
+        boolean hasIds = filter.getIds() != null && !filter.getIds().isEmpty();
+        boolean hasLocation = filter.getLocation() != null && !filter.getLocation().isBlank();
+        if (!hasIds && !hasLocation && filter.getCompanyId() == null && filter.getJobType() == null
+                && filter.getExperienceLevel() == null && filter.getRemoteOption() == null
+                && filter.getIsActive() == null && filter.getPostedBefore() == null
+                && filter.getPostedAfter() == null && filter.getExpiresBefore() == null) {
+            throw new InvalidJobDataException("Bulk operations require at least one filter criterion");
+        }
+        if (filter.getPostedAfter() != null && filter.getPostedBefore() != null
+                && !filter.getPostedAfter().isBefore(filter.getPostedBefore())) {
+            throw new InvalidJobDataException("postedAfter must be before postedBefore");
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        int apply(List<Long> ids);
+    }
+}
@@ -0,0 +1,112 @@
+package com.jobboard.service;
+
+import com.jobboard.datasource.RoutingContext;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.exception.ChangeCursorExpiredException;
+import com.jobboard.model.dto.JobChangeDTO;
+import com.jobboard.model.dto.JobChangeFeedDTO;
+import com.jobboard.repository.JobChangeRepository;
+import com.jobboard.service.catalog.JobCatalogSnapshotService;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps this node's derived data in step with job changes committed anywhere in the cluster. Every
+ * {@code tail-interval} it reads the change feed past its cursor, exactly as a {@code /api/jobs/changes} client
+ * would, and hands the changes to {@link ChangeEventDispatcher}. The cursor starts at the feed head read before
+ * the catalog loads, so nothing committed while the node was loading is missed. If the node falls behind
+ * retention, it reloads the catalog rather than skip the changes it can no longer read.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JobChangeFeedTailer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeFeedTailer.class);
+
+    private final JobService jobService;
+    private final JobChangeRepository jobChangeRepository;
+    private final ChangeEventDispatcher dispatcher;
+    private final JobCatalogSnapshotService catalogSnapshotService;
+    private final int batchSize;
+    private Long cursor;
+
+    public JobChangeFeedTailer(
+            JobService jobService,
+            JobChangeRepository jobChangeRepository,
+            ChangeEventDispatcher dispatcher,
+            JobCatalogSnapshotService catalogSnapshotService,
+            @Value("${jobboard.changes.tail-batch-size:500}") int batchSize) {
+        this.jobService = jobService;
+        this.jobChangeRepository = jobChangeRepository;
+        this.dispatcher = dispatcher;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public synchronized void run(ApplicationArguments args) throws InterruptedException {
+        if (cursor == null) {
+            cursor = jobChangeRepository.findFeedHead();
+            dispatcher.deliverFeed(List.of(), cursor);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${jobboard.changes.tail-interval:PT5S}",
+            fixedDelayString = "${jobboard.changes.tail-interval:PT5S}")
+    public synchronized void tail() throws InterruptedException {
+        RoutingContext.forcePrimary();
+        try {
+            if (cursor == null) {
+                cursor = jobChangeRepository.findFeedHead();
+            }
+            JobChangeFeedDTO feed;
+            do {
+                feed = jobService.getChanges(cursor, batchSize);
+                dispatcher.deliverFeed(toEvents(feed.getChanges()), feed.getNextCursor());
+                cursor = feed.getNextCursor();
+            } while (feed.isHasMore());
+        } catch (ChangeCursorExpiredException e) {
+            resync(e);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read the change feed after seq {}; retrying with the next run", cursor, e);
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+
+    /**
+     * The changes between the cursor and the oldest retained one are gone, so reload the catalog instead, and
+     * follow the feed from the head read before the reload.
+     */
+    private void resync(ChangeCursorExpiredException expired) throws InterruptedException {
+        log.warn("Change feed cursor {} is behind retention (oldest seq {}); reloading the job catalog",
+                cursor, expired.getOldestSeq());
+        try {
+            long head = jobChangeRepository.findFeedHead();
+            catalogSnapshotService.resync();
+            dispatcher.deliverFeed(List.of(), head);
+            cursor = head;
+        } catch (RuntimeException e) {
+            log.warn("Failed to resync the job catalog; retrying with the next run", e);
+        }
+    }
+
+    private static List<JobChangedEvent> toEvents(List<JobChangeDTO> changes) {
+        List<JobChangedEvent> events = new ArrayList<>(changes.size());
+        for (JobChangeDTO change : changes) {
+            events.add(new JobChangedEvent(
+                    change.getSeq(), change.getType(), change.getJobId(), change.getVersion(), null, change.getJob()));
+        }
+        return events;
+    }
+}
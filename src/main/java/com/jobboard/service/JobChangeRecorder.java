@@ -0,0 +1,94 @@
+package com.jobboard.service;
+
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.Job;
+import com.jobboard.model.entity.JobChange;
+import com.jobboard.repository.JobChangeRepository;
+import com.jobboard.util.JobMapper;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Appends a row to the change feed and publishes the matching {@link JobChangedEvent}. Must be called inside the
+ * transaction that made the change so listeners only see it after commit.
+ *
+ * <p>Seqs are drawn when a row is inserted but become visible at commit, so they do not commit in order. To let
+ * the feed tell when no lower seq can still appear, a transaction is assigned its id before drawing its first seq,
+ * and just before commit its rows are stamped with {@code visible_after}, the next unassigned transaction id.
+ * Every transaction that could still commit a lower seq has an id below that, so the feed holds a row back until
+ * all ids below its stamp have finished.
+ */
+@Component
+public class JobChangeRecorder {
+
+    private final JobChangeRepository jobChangeRepository;
+    private final JobMapper jobMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public JobChangeRecorder(
+            JobChangeRepository jobChangeRepository,
+            JobMapper jobMapper,
+            ApplicationEventPublisher eventPublisher) {
+        this.jobChangeRepository = jobChangeRepository;
+        this.jobMapper = jobMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void record(ChangeType type, Job job) {
+        record(type, job, null);
+    }
+
+    /** Records an update, naming the fields that differ from {@code before}, a {@link JobMapper#snapshot}. */
+    public void recordUpdate(Job job, Map<String, Object> before) {
+        Map<String, Object> after = jobMapper.snapshot(job);
+        Set<String> changedFields = new HashSet<>();
+        after.forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                changedFields.add(field);
+            }
+        });
+        record(ChangeType.UPDATED, job, Set.copyOf(changedFields));
+    }
+
+    /** Appends a {@code DELETED} change for each job, for bulk deletes that bypass the entities. */
+    public void recordTombstones(Collection<Long> jobIds) {
+        joinFeed();
+        jobChangeRepository.insertTombstones(jobIds, LocalDateTime.now());
+    }
+
+    private void record(ChangeType type, Job job, Set<String> changedFields) {
+        joinFeed();
+        JobChange change = jobChangeRepository.save(
+                new JobChange(null, job.getId(), type, job.getVersion(), LocalDateTime.now(), null));
+        eventPublisher.publishEvent(new JobChangedEvent(
+                change.getSeq(), type, job.getId(), job.getVersion(), changedFields, jobMapper.toDetailDTO(job)));
+    }
+
+    private void joinFeed() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        jobChangeRepository.assignTransactionId();
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jobChangeRepository.stampVisibleAfter();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(JobChangeRecorder.this);
+            }
+        });
+    }
+}
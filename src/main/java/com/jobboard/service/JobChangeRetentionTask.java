@@ -0,0 +1,45 @@
+package com.jobboard.service;
+
+import com.jobboard.repository.JobChangeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class JobChangeRetentionTask {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeRetentionTask.class);
+
+    private final JobChangeRepository jobChangeRepository;
+    private final Duration retention;
+
+    public JobChangeRetentionTask(
+            JobChangeRepository jobChangeRepository,
+            @Value("${jobboard.changes.retention:P30D}") Duration retention) {
+        this.jobChangeRepository = jobChangeRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * Deletes changes up to the last one older than {@code retention} and records that seq as the purge
+     * watermark in the same transaction, so the feed can tell an expired cursor from a gap in the sequence.
+     */
+    @Scheduled(cron = "${jobboard.changes.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpiredChanges() {
+        Long through = jobChangeRepository.findLastSeqBefore(LocalDateTime.now().minus(retention));
+        if (through == null) {
+            return;
+        }
+        jobChangeRepository.advancePurgedThrough(through);
+        int removed = jobChangeRepository.deleteThrough(through);
+        if (removed > 0) {
+            log.info("Purged {} job changes older than {} (through seq {})", removed, retention, through);
+        }
+    }
+}
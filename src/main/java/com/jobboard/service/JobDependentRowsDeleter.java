@@ -0,0 +1,39 @@
+package com.jobboard.service;
+
+import com.jobboard.repository.ApplicationRepository;
+import com.jobboard.repository.JobApplicationCountRepository;
+import com.jobboard.repository.JobViewCountRepository;
+import com.jobboard.repository.SavedSearchMatchRepository;
+import java.util.Collection;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the rows keyed by job id that have no foreign key to {@code job}: alert matches, applications and
+ * the application and view counters. Runs in the caller's transaction, alongside the delete of the jobs.
+ */
+@Component
+public class JobDependentRowsDeleter {
+
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobApplicationCountRepository jobApplicationCountRepository;
+    private final JobViewCountRepository jobViewCountRepository;
+
+    public JobDependentRowsDeleter(
+            SavedSearchMatchRepository savedSearchMatchRepository,
+            ApplicationRepository applicationRepository,
+            JobApplicationCountRepository jobApplicationCountRepository,
+            JobViewCountRepository jobViewCountRepository) {
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.applicationRepository = applicationRepository;
+        this.jobApplicationCountRepository = jobApplicationCountRepository;
+        this.jobViewCountRepository = jobViewCountRepository;
+    }
+
+    public void deleteFor(Collection<Long> jobIds) {
+        savedSearchMatchRepository.deleteByJobIdIn(jobIds);
+        applicationRepository.deleteByJobIdIn(jobIds);
+        jobApplicationCountRepository.deleteByJobIdIn(jobIds);
+        jobViewCountRepository.deleteByJobIdIn(jobIds);
+    }
+}
@@ -1,19 +1,59 @@
 package com.jobboard.service;
 
+import com.jobboard.exception.ChangeCursorExpiredException;
 import com.jobboard.exception.CompanyNotFoundException;
+import com.jobboard.exception.DuplicateJobException;
+import com.jobboard.exception.InvalidJobDataException;
 import com.jobboard.exception.JobNotFoundException;
+import com.jobboard.model.dto.BatchItemStatus;
+import com.jobboard.model.dto.CompanyJobsPageDTO;
+import com.jobboard.model.dto.JobBatchDTO;
+import com.jobboard.model.dto.JobBatchUpdateItemDTO;
+import com.jobboard.model.dto.JobBatchUpdateItemResultDTO;
+import com.jobboard.model.dto.JobBatchUpdateResultDTO;
+import com.jobboard.model.dto.JobChangeDTO;
+import com.jobboard.model.dto.JobChangeFeedDTO;
 import com.jobboard.model.dto.JobCreateDTO;
 import com.jobboard.model.dto.JobDetailDTO;
 import com.jobboard.model.dto.JobDTO;
 import com.jobboard.model.dto.JobUpdateDTO;
+import com.jobboard.model.entity.ChangeType;
 import com.jobboard.model.entity.Company;
 import com.jobboard.model.entity.Job;
+import com.jobboard.model.entity.JobArchive;
+import com.jobboard.model.entity.JobChange;
 import com.jobboard.repository.CompanyRepository;
+import com.jobboard.repository.JobArchiveRepository;
+import com.jobboard.repository.JobChangeRepository;
+import com.jobboard.repository.JobFingerprintView;
 import com.jobboard.repository.JobRepository;
+import com.jobboard.service.dedup.DuplicateJobIndex;
+import com.jobboard.service.dedup.DuplicatePolicy;
+import com.jobboard.service.render.JobJsonFragmentCache;
+import com.jobboard.service.render.JsonFragment;
 import com.jobboard.util.JobMapper;
+import com.jobboard.util.SimHash;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,53 +62,346 @@ public class JobService {
 
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
+    private final JobChangeRepository jobChangeRepository;
+    private final JobArchiveRepository jobArchiveRepository;
     private final JobMapper jobMapper;
+    private final JobChangeRecorder jobChangeRecorder;
+    private final DuplicateJobIndex duplicateJobIndex;
+    private final OptimisticUpdateRetrier optimisticUpdateRetrier;
+    private final JobJsonFragmentCache jobJsonFragmentCache;
+    private final ChangeEventDispatcher changeEventDispatcher;
+    private final JobDependentRowsDeleter jobDependentRowsDeleter;
+    private final DuplicatePolicy duplicatePolicy;
+    private final int maxBatchSize;
 
-    public JobService(JobRepository jobRepository, CompanyRepository companyRepository, JobMapper jobMapper) {
+    public JobService(
+            JobRepository jobRepository,
+            CompanyRepository companyRepository,
+            JobChangeRepository jobChangeRepository,
+            JobArchiveRepository jobArchiveRepository,
+            JobMapper jobMapper,
+            JobChangeRecorder jobChangeRecorder,
+            DuplicateJobIndex duplicateJobIndex,
+            OptimisticUpdateRetrier optimisticUpdateRetrier,
+            JobJsonFragmentCache jobJsonFragmentCache,
+            ChangeEventDispatcher changeEventDispatcher,
+            JobDependentRowsDeleter jobDependentRowsDeleter,
+            @Value("${jobboard.dedup.policy:FLAG}") DuplicatePolicy duplicatePolicy,
+            @Value("${jobboard.batch.max-ids:200}") int maxBatchSize) {
         this.jobRepository = jobRepository;
         this.companyRepository = companyRepository;
+        this.jobChangeRepository = jobChangeRepository;
+        this.jobArchiveRepository = jobArchiveRepository;
         this.jobMapper = jobMapper;
+        this.jobChangeRecorder = jobChangeRecorder;
+        this.duplicateJobIndex = duplicateJobIndex;
+        this.optimisticUpdateRetrier = optimisticUpdateRetrier;
+        this.jobJsonFragmentCache = jobJsonFragmentCache;
+        this.changeEventDispatcher = changeEventDispatcher;
+        this.jobDependentRowsDeleter = jobDependentRowsDeleter;
+        this.duplicatePolicy = duplicatePolicy;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Transactional(readOnly = true)
-    public Page<JobDTO> getAllJobs(Pageable pageable) {
-        return jobRepository.findAllWithCompany(pageable).map(jobMapper::toDTO);
+    public Page<JsonFragment> getAllJobs(Pageable pageable) {
+        return jobRepository.findAll(pageable).map(jobJsonFragmentCache::render);
     }
 
     @Transactional(readOnly = true)
-    public Page<JobDTO> getActiveJobs(Pageable pageable) {
-        return jobRepository.findActiveJobs(pageable).map(jobMapper::toDTO);
+    public Page<JsonFragment> getActiveJobs(Pageable pageable) {
+        return jobRepository.findActiveJobs(pageable).map(jobJsonFragmentCache::render);
     }
 
     @Transactional(readOnly = true)
     public JobDetailDTO getJobById(Long id) {
-        Job job = jobRepository.findById(id)
+        return jobRepository.findById(id)
+                .map(jobMapper::toDetailDTO)
+                .or(() -> jobArchiveRepository.findById(id).map(jobMapper::toDetailDTO))
                 .orElseThrow(() -> new JobNotFoundException(id));
-        return jobMapper.toDetailDTO(job);
     }
 
-    public JobDTO createJob(JobCreateDTO dto) {
+    /**
+     * Loads the requested jobs with their companies in one query. Jobs come back in request order with
+     * duplicates removed; ids that do not exist are listed in {@code missingIds}.
+     */
+    @Transactional(readOnly = true)
+    public JobBatchDTO getJobsByIds(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.size() > maxBatchSize) {
+            throw new InvalidJobDataException("At most " + maxBatchSize + " job ids can be requested at once");
+        }
+        if (requested.isEmpty()) {
+            return new JobBatchDTO(List.of(), List.of());
+        }
+        Map<Long, Job> found = jobRepository.findAllByIdIn(requested).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        Map<Long, JobArchive> archived = found.size() == requested.size()
+                ? Map.of()
+                : jobArchiveRepository.findAllById(requested.stream().filter(id -> !found.containsKey(id)).toList())
+                        .stream()
+                        .collect(Collectors.toMap(JobArchive::getId, Function.identity()));
+        List<JobDetailDTO> jobs = new ArrayList<>(found.size() + archived.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            Job job = found.get(id);
+            if (job != null) {
+                jobs.add(jobMapper.toDetailDTO(job));
+            } else if (archived.containsKey(id)) {
+                jobs.add(jobMapper.toDetailDTO(archived.get(id)));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new JobBatchDTO(jobs, missingIds);
+    }
+
+    /**
+     * One keyset page of a company's jobs, newest first unless {@code ascending}. The cursor encodes the
+     * {@code (postedDate, id)} of the last job returned, so pages stay stable while jobs are being added.
+     */
+    @Transactional(readOnly = true)
+    public CompanyJobsPageDTO getCompanyJobs(Long companyId, boolean activeOnly, boolean ascending, String cursor,
+            int limit) {
+        if (!companyRepository.existsById(companyId)) {
+            throw new CompanyNotFoundException(companyId);
+        }
+        LocalDateTime afterPostedDate = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                        .split(",", 2);
+                afterPostedDate = LocalDateTime.parse(position[0]);
+                afterId = Long.parseLong(position[1]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+                throw new InvalidJobDataException("Invalid cursor");
+            }
+        }
+        List<Job> page = jobRepository.findCompanyJobsPage(
+                companyId, activeOnly, ascending, afterPostedDate, afterId, limit + 1);
+        boolean hasMore = page.size() > limit;
+        if (hasMore) {
+            page = page.subList(0, limit);
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            Job last = page.get(page.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getPostedDate() + "," + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new CompanyJobsPageDTO(page.stream().map(jobMapper::toDTO).toList(), nextCursor, hasMore);
+    }
+
+    /**
+     * Returns changes with a sequence number greater than {@code since}, collapsed to the latest change per job.
+     * The batch stops before any change that a transaction still in flight could commit behind (see
+     * {@link JobChangeRecorder}), so the cursor never moves past a seq that is yet to appear. {@code since} 0
+     * starts from the oldest retained change; any other cursor below the purge watermark has lost changes to
+     * retention and is rejected with {@link ChangeCursorExpiredException}, so the client reloads instead of
+     * silently skipping them. The watermark is checked again after the read, in case a purge committed in between.
+     */
+    @Transactional(readOnly = true)
+    public JobChangeFeedDTO getChanges(long since, int limit) {
+        if (since == 0) {
+            since = Objects.requireNonNullElse(jobChangeRepository.findPurgedThrough(), 0L);
+        }
+        List<JobChange> changes = jobChangeRepository.findChangesAfter(since, limit + 1);
+        Long purgedThrough = jobChangeRepository.findPurgedThrough();
+        if (purgedThrough != null && since < purgedThrough) {
+            throw new ChangeCursorExpiredException(since, purgedThrough + 1);
+        }
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        if (changes.isEmpty()) {
+            return new JobChangeFeedDTO(List.of(), since, false);
+        }
+
+        Map<Long, JobChange> latestByJob = new LinkedHashMap<>();
+        for (JobChange change : changes) {
+            latestByJob.remove(change.getJobId());
+            latestByJob.put(change.getJobId(), change);
+        }
+        Set<Long> liveIds = latestByJob.values().stream()
+                .filter(change -> !change.getChangeType().removesJob())
+                .map(JobChange::getJobId)
+                .collect(Collectors.toSet());
+        Map<Long, Job> jobs = liveIds.isEmpty()
+                ? Map.of()
+                : jobRepository.findAllByIdIn(liveIds).stream()
+                        .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        List<JobChangeDTO> result = new ArrayList<>(latestByJob.size());
+        for (JobChange change : latestByJob.values()) {
+            Job job = jobs.get(change.getJobId());
+            if (job == null) {
+                ChangeType type =
+                        change.getChangeType() == ChangeType.ARCHIVED ? ChangeType.ARCHIVED : ChangeType.DELETED;
+                result.add(new JobChangeDTO(change.getSeq(), type, change.getJobId(),
+                        change.getJobVersion(), change.getChangedAt(), null));
+            } else {
+                result.add(new JobChangeDTO(change.getSeq(), change.getChangeType(), job.getId(),
+                        job.getVersion(), change.getChangedAt(), jobMapper.toDetailDTO(job)));
+            }
+        }
+        return new JobChangeFeedDTO(result, changes.get(changes.size() - 1).getSeq(), hasMore);
+    }
+
+    /** {@code merged} when the MERGE policy folded the posting into an existing job instead of creating one. */
+    public record CreatedJob(JobDTO job, boolean merged) {
+    }
+
+    public CreatedJob createJob(JobCreateDTO dto) {
         Company company = companyRepository.findById(dto.getCompanyId())
                 .orElseThrow(() -> new CompanyNotFoundException(dto.getCompanyId()));
         Job entity = jobMapper.toEntity(dto, company);
-        Job saved = jobRepository.save(entity);
-        return jobMapper.toDTO(saved);
+        entity.setContentFingerprint(SimHash.fingerprint(entity.getTitle(), entity.getDescription()));
+        Optional<Job> duplicateOf = findDuplicate(company, entity.getContentFingerprint());
+        if (duplicateOf.isPresent()) {
+            Job existing = duplicateOf.get();
+            switch (duplicatePolicy) {
+                case REJECT -> throw new DuplicateJobException(existing.getId());
+                case MERGE -> {
+                    Map<String, Object> before = jobMapper.snapshot(existing);
+                    jobMapper.mergeFromDTO(existing, dto);
+                    existing.setContentFingerprint(entity.getContentFingerprint());
+                    Job merged = jobRepository.saveAndFlush(existing);
+                    duplicateJobIndex.put(merged.getId(), company.getId(), merged.getContentFingerprint());
+                    jobChangeRecorder.recordUpdate(merged, before);
+                    return new CreatedJob(jobMapper.toDTO(merged), true);
+                }
+                default -> entity.setDuplicateOfId(existing.getId());
+            }
+        }
+        Job saved = jobRepository.saveAndFlush(entity);
+        duplicateJobIndex.put(saved.getId(), company.getId(), saved.getContentFingerprint());
+        jobChangeRecorder.record(ChangeType.CREATED, saved);
+        return new CreatedJob(jobMapper.toDTO(saved), false);
     }
 
+    /**
+     * Runs outside the class-level transaction so {@link OptimisticUpdateRetrier} can retry in fresh
+     * transactions when a concurrent edit touched other fields.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public JobDTO updateJob(Long id, JobUpdateDTO dto) {
-        Job job = jobRepository.findById(id)
-                .orElseThrow(() -> new JobNotFoundException(id));
+        return optimisticUpdateRetrier.execute(
+                "job",
+                jobMapper.requestedValues(dto),
+                () -> jobRepository.findById(id).orElseThrow(() -> new JobNotFoundException(id)),
+                jobMapper::snapshot,
+                job -> applyUpdate(job, dto));
+    }
+
+    private JobDTO applyUpdate(Job job, JobUpdateDTO dto) {
         Company company = null;
         if (dto.getCompanyId() != null) {
             company = companyRepository.findById(dto.getCompanyId())
                     .orElseThrow(() -> new CompanyNotFoundException(dto.getCompanyId()));
         }
+        Map<String, Object> before = jobMapper.snapshot(job);
         jobMapper.updateEntityFromDTO(job, dto, company);
-        Job saved = jobRepository.save(job);
+        job.setContentFingerprint(SimHash.fingerprint(job.getTitle(), job.getDescription()));
+        Job saved = jobRepository.saveAndFlush(job);
+        jobChangeRecorder.recordUpdate(saved, before);
         return jobMapper.toDTO(saved);
     }
 
+    /**
+     * Applies many partial updates in one transaction. The targets are row-locked and loaded by one query and
+     * the companies they are moved to by another. Items whose job is missing, whose version is stale or that name an
+     * unknown company are reported individually and skipped; the rest are flushed together so the updates go
+     * out as JDBC batches.
+     */
+    public JobBatchUpdateResultDTO updateJobs(List<JobBatchUpdateItemDTO> items) {
+        if (items.size() > maxBatchSize) {
+            throw new InvalidJobDataException("At most " + maxBatchSize + " jobs can be updated at once");
+        }
+        Set<Long> ids = items.stream().map(JobBatchUpdateItemDTO::getId).collect(Collectors.toSet());
+        Map<Long, Job> jobs = jobRepository.findAllByIdInForUpdate(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        Set<Long> companyIds = items.stream()
+                .map(item -> item.getChanges().getCompanyId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Company> companies = companyIds.isEmpty()
+                ? Map.of()
+                : companyRepository.findAllById(companyIds).stream()
+                        .collect(Collectors.toMap(Company::getId, Function.identity()));
+
+        JobBatchUpdateItemResultDTO[] results = new JobBatchUpdateItemResultDTO[items.size()];
+        Map<Integer, Job> updated = new LinkedHashMap<>();
+        Map<Long, Map<String, Object>> before = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            JobBatchUpdateItemDTO item = items.get(i);
+            Long id = item.getId();
+            Job job = jobs.get(id);
+            Long companyId = item.getChanges().getCompanyId();
+            if (!seen.add(id)) {
+                results[i] = rejected(id, BatchItemStatus.INVALID, null, "Job is listed more than once");
+            } else if (job == null) {
+                results[i] = rejected(id, BatchItemStatus.NOT_FOUND, null, new JobNotFoundException(id).getMessage());
+            } else if (!Objects.equals(job.getVersion(), item.getVersion())) {
+                results[i] = rejected(id, BatchItemStatus.CONFLICT, job.getVersion(),
+                        "The job was modified by another user. Please refresh and try again.");
+            } else if (companyId != null && !companies.containsKey(companyId)) {
+                results[i] = rejected(id, BatchItemStatus.INVALID, job.getVersion(),
+                        new CompanyNotFoundException(companyId).getMessage());
+            } else {
+                Company company = companyId != null ? companies.get(companyId) : null;
+                before.put(id, jobMapper.snapshot(job));
+                jobMapper.updateEntityFromDTO(job, item.getChanges(), company);
+                job.setContentFingerprint(SimHash.fingerprint(job.getTitle(), job.getDescription()));
+                updated.put(i, job);
+            }
+        }
+        jobRepository.flush();
+        updated.forEach((position, job) -> {
+            jobChangeRecorder.recordUpdate(job, before.get(job.getId()));
+            results[position] = new JobBatchUpdateItemResultDTO(
+                    job.getId(), BatchItemStatus.UPDATED, job.getVersion(), null, jobMapper.toDTO(job));
+        });
+        return new JobBatchUpdateResultDTO(updated.size(), items.size() - updated.size(), List.of(results));
+    }
+
+    private static JobBatchUpdateItemResultDTO rejected(Long id, BatchItemStatus status, Integer version,
+            String message) {
+        return new JobBatchUpdateItemResultDTO(id, status, version, message, null);
+    }
+
     public void deleteJob(Long id) {
-        jobRepository.findById(id).ifPresent(jobRepository::delete);
+        jobRepository.findById(id).ifPresent(job -> {
+            jobDependentRowsDeleter.deleteFor(List.of(id));
+            jobRepository.delete(job);
+            jobChangeRecorder.record(ChangeType.DELETED, job);
+        });
+    }
+
+    /**
+     * Locks the fingerprint's LSH band buckets until commit, so concurrent creates that could match each other,
+     * on any node, run one after the other, then probes the index. The index has every job this node has applied;
+     * on a miss only jobs changed since the feed position it has applied are read back, which covers jobs
+     * committed on other nodes that the tailer has not delivered yet. Before the index has loaded, the company's
+     * fingerprints are read instead.
+     */
+    private Optional<Job> findDuplicate(Company company, long fingerprint) {
+        if (duplicatePolicy == DuplicatePolicy.OFF) {
+            return Optional.empty();
+        }
+        jobRepository.lockFingerprintBands(duplicateJobIndex.bandLockKeys(company.getId(), fingerprint));
+        Optional<Job> indexed = duplicateJobIndex.findNearDuplicate(company.getId(), fingerprint, null)
+                .flatMap(jobRepository::findById);
+        if (indexed.isPresent()) {
+            return indexed;
+        }
+        long appliedThrough = changeEventDispatcher.feedAppliedThrough();
+        List<JobFingerprintView> unindexed = duplicateJobIndex.isLoaded()
+                ? jobRepository.findFingerprintsChangedAfter(company.getId(), appliedThrough)
+                : jobRepository.findFingerprintsByCompanyId(company.getId());
+        return duplicateJobIndex.findNearDuplicate(unindexed, fingerprint).flatMap(jobRepository::findById);
     }
 }
@@ -0,0 +1,98 @@
+package com.jobboard.service;
+
+import com.jobboard.exception.OptimisticLockException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a partial update in its own transaction and, when it loses an optimistic-lock race, reloads the entity
+ * and re-applies the same request instead of failing straight away.
+ *
+ * <p>Callers describe the update as the field values it wants to write plus a snapshot function over the
+ * entity. A retry goes ahead only if none of those fields was changed to a different value by the concurrent
+ * writer, comparing the snapshot taken by the losing attempt with the freshly loaded one. Otherwise the
+ * request fails with {@link OptimisticLockException} naming the conflicting fields.
+ */
+@Component
+public class OptimisticUpdateRetrier {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+
+    public OptimisticUpdateRetrier(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${jobboard.optimistic-retry.max-attempts:3}") int maxAttempts) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public <E, R> R execute(
+            String entityName,
+            Map<String, Object> requestedValues,
+            Supplier<E> loader,
+            Function<E, Map<String, Object>> snapshot,
+            Function<E, R> apply) {
+        AtomicReference<Map<String, Object>> base = new AtomicReference<>();
+        meterRegistry.counter("jobboard.optimistic.updates", "entity", entityName).increment();
+        for (int attempt = 1; ; attempt++) {
+            boolean retry = attempt > 1;
+            try {
+                R result = transactionTemplate.execute(status -> {
+                    E entity = loader.get();
+                    Map<String, Object> current = snapshot.apply(entity);
+                    if (retry) {
+                        List<String> conflicts = conflictingFields(requestedValues, base.get(), current);
+                        if (!conflicts.isEmpty()) {
+                            meterRegistry.counter("jobboard.optimistic.retries",
+                                    "entity", entityName, "outcome", "conflict").increment();
+                            throw new OptimisticLockException("The resource was modified by another user "
+                                    + "(conflicting fields: " + String.join(", ", conflicts)
+                                    + "). Please refresh and try again.");
+                        }
+                    }
+                    base.set(current);
+                    return apply.apply(entity);
+                });
+                if (retry) {
+                    meterRegistry.counter("jobboard.optimistic.retries",
+                            "entity", entityName, "outcome", "merged").increment();
+                }
+                return result;
+            } catch (OptimisticLockingFailureException ex) {
+                meterRegistry.counter("jobboard.optimistic.lock.failures", "entity", entityName).increment();
+                if (attempt >= maxAttempts || base.get() == null) {
+                    meterRegistry.counter("jobboard.optimistic.retries",
+                            "entity", entityName, "outcome", "exhausted").increment();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private static List<String> conflictingFields(
+            Map<String, Object> requestedValues, Map<String, Object> base, Map<String, Object> current) {
+        List<String> conflicts = new ArrayList<>();
+        requestedValues.forEach((field, requested) -> {
+            Object before = base.get(field);
+            Object now = current.get(field);
+            if (!Objects.equals(before, now) && !Objects.equals(now, requested)) {
+                conflicts.add(field);
+            }
+        });
+        return conflicts;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobboard.service;
+
+import com.jobboard.datasource.RoutingContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight for reads: while a load for a key is running, identical calls wait for it and share its result
+ * (or exception) instead of issuing their own query. Nothing is kept once the load finishes, so this is not a
+ * cache: a result can predate the call by at most the duration of one load. Callers must wrap the
+ * transactional service call, not run inside it. Requests pinned to the primary for read-your-writes only
+ * share loads with each other, never with a leader reading from a replica.
+ *
+ * <p>The key table is bounded: when {@code max-keys} loads are in flight, further distinct keys simply run
+ * uncoalesced. A follower that has waited {@code max-wait} gives up on the leader and loads for itself.
+ */
+@Component
+public class RequestCoalescer {
+
+    private record Key(String operation, Object argument, boolean primaryForced) {
+    }
+
+    private record Outcomes(Counter leader, Counter coalesced, Counter bypassed) {
+    }
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Outcomes> outcomes = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final long maxWaitNanos;
+
+    public RequestCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${jobboard.coalescing.max-keys:10000}") int maxKeys,
+            @Value("${jobboard.coalescing.max-wait:PT5S}") Duration maxWait) {
+        this.meterRegistry = meterRegistry;
+        this.maxKeys = maxKeys;
+        this.maxWaitNanos = maxWait.toNanos();
+        Gauge.builder("jobboard.coalescing.in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * @param operation names the read, e.g. {@code "job.byId"}; also the metric tag
+     * @param argument  everything the result depends on; must have value equality
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object argument, Supplier<T> loader) {
+        Outcomes outcome = outcomes.computeIfAbsent(operation, this::register);
+        Key key = new Key(operation, argument, RoutingContext.isPrimaryForced());
+        CompletableFuture<Object> existing = inFlight.get(key);
+        if (existing == null) {
+            if (inFlight.size() >= maxKeys) {
+                outcome.bypassed().increment();
+                return loader.get();
+            }
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                outcome.leader().increment();
+                return (T) lead(key, mine, loader);
+            }
+        }
+        outcome.coalesced().increment();
+        return (T) follow(existing, loader);
+    }
+
+    private Object lead(Key key, CompletableFuture<Object> future, Supplier<?> loader) {
+        try {
+            Object result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object follow(CompletableFuture<Object> future, Supplier<?> loader) {
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced read", e);
+        }
+    }
+
+    private Outcomes register(String operation) {
+        return new Outcomes(
+                meterRegistry.counter("jobboard.coalescing.calls", "operation", operation, "result", "leader"),
+                meterRegistry.counter("jobboard.coalescing.calls", "operation", operation, "result", "coalesced"),
+                meterRegistry.counter("jobboard.coalescing.calls", "operation", operation, "result", "bypassed"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobboard.service;
+
+import com.jobboard.event.SavedSearchChangedEvent;
+import com.jobboard.exception.SavedSearchNotFoundException;
+import com.jobboard.model.dto.SavedSearchCreateDTO;
+import com.jobboard.model.dto.SavedSearchDTO;
+import com.jobboard.model.dto.SavedSearchMatchDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.SavedSearch;
+import com.jobboard.model.entity.SavedSearchDeletion;
+import com.jobboard.repository.SavedSearchDeletionRepository;
+import com.jobboard.repository.SavedSearchMatchRepository;
+import com.jobboard.repository.SavedSearchRepository;
+import com.jobboard.util.SavedSearchMapper;
+import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final SavedSearchDeletionRepository savedSearchDeletionRepository;
+    private final SavedSearchMapper savedSearchMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SavedSearchService(
+            SavedSearchRepository savedSearchRepository,
+            SavedSearchMatchRepository savedSearchMatchRepository,
+            SavedSearchDeletionRepository savedSearchDeletionRepository,
+            SavedSearchMapper savedSearchMapper,
+            ApplicationEventPublisher eventPublisher) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.savedSearchDeletionRepository = savedSearchDeletionRepository;
+        this.savedSearchMapper = savedSearchMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SavedSearchDTO> getSavedSearches(String ownerEmail, Pageable pageable) {
+        return savedSearchRepository.findByOwnerEmail(ownerEmail, pageable).map(savedSearchMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public SavedSearchDTO getSavedSearchById(Long id) {
+        SavedSearch search = savedSearchRepository.findById(id)
+                .orElseThrow(() -> new SavedSearchNotFoundException(id));
+        return savedSearchMapper.toDTO(search);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SavedSearchMatchDTO> getMatches(Long id, Pageable pageable) {
+        if (!savedSearchRepository.existsById(id)) {
+            throw new SavedSearchNotFoundException(id);
+        }
+        return savedSearchMatchRepository.findBySavedSearchId(id, pageable).map(savedSearchMapper::toMatchDTO);
+    }
+
+    public SavedSearchDTO createSavedSearch(SavedSearchCreateDTO dto) {
+        SavedSearch saved = savedSearchRepository.save(savedSearchMapper.toEntity(dto));
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(ChangeType.CREATED, saved));
+        return savedSearchMapper.toDTO(saved);
+    }
+
+    public void deleteSavedSearch(Long id) {
+        savedSearchRepository.findById(id).ifPresent(search -> {
+            savedSearchMatchRepository.deleteBySavedSearchId(id);
+            savedSearchRepository.delete(search);
+            savedSearchDeletionRepository.save(new SavedSearchDeletion(id, LocalDateTime.now()));
+            eventPublisher.publishEvent(new SavedSearchChangedEvent(ChangeType.DELETED, search));
+        });
+    }
+}
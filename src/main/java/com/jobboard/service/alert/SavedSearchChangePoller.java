@@ -0,0 +1,76 @@
+package com.jobboard.service.alert;
+
+import com.jobboard.model.entity.SavedSearch;
+import com.jobboard.repository.SavedSearchDeletionRepository;
+import com.jobboard.repository.SavedSearchRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Picks up saved searches created or deleted on other nodes, which only reach this node's
+ * {@link SavedSearchPercolator} through the database. Every {@code refresh-interval} it indexes the searches
+ * created since the previous poll and unindexes those with a deletion tombstone since then, both less
+ * {@code refresh-overlap} to allow for clock skew and slow commits. Tombstones older than {@code retention} are
+ * purged; a node that starts later loads the surviving searches instead.
+ */
+@Component
+public class SavedSearchChangePoller {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchChangePoller.class);
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchDeletionRepository savedSearchDeletionRepository;
+    private final SavedSearchPercolator percolator;
+    private final Duration overlap;
+    private final Duration retention;
+    private LocalDateTime lastPoll;
+
+    public SavedSearchChangePoller(
+            SavedSearchRepository savedSearchRepository,
+            SavedSearchDeletionRepository savedSearchDeletionRepository,
+            SavedSearchPercolator percolator,
+            @Value("${jobboard.alerts.saved-searches.refresh-overlap:PT1M}") Duration overlap,
+            @Value("${jobboard.alerts.saved-searches.deletion-retention:PT1H}") Duration retention) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchDeletionRepository = savedSearchDeletionRepository;
+        this.percolator = percolator;
+        this.overlap = overlap;
+        this.retention = retention;
+        this.lastPoll = LocalDateTime.now();
+    }
+
+    /** Creations are applied before deletions, so a search created and deleted between polls ends up unindexed. */
+    @Scheduled(
+            initialDelayString = "${jobboard.alerts.saved-searches.refresh-interval:PT15S}",
+            fixedDelayString = "${jobboard.alerts.saved-searches.refresh-interval:PT15S}")
+    public synchronized void poll() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = lastPoll.minus(overlap);
+        try {
+            List<SavedSearch> created = savedSearchRepository.findByCreatedAtGreaterThanEqual(since);
+            created.forEach(percolator::index);
+            List<Long> deleted = savedSearchDeletionRepository.findIdsDeletedSince(since);
+            deleted.forEach(percolator::unindex);
+            lastPoll = started;
+            log.debug("Polled {} saved search creations and {} deletions", created.size(), deleted.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll for saved search changes since {}; retrying with the next run", lastPoll, e);
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${jobboard.alerts.saved-searches.deletion-retention:PT1H}")
+    public void purgeDeletions() {
+        int purged = savedSearchDeletionRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} saved search tombstones", purged);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.jobboard.service.alert;
+
+import com.jobboard.event.ChangeEvent;
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.event.SavedSearchChangedEvent;
+import com.jobboard.model.dto.JobDetailDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.SavedSearch;
+import com.jobboard.repository.SavedSearchRepository;
+import com.jobboard.util.TextTokenizer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Matches committed job writes against saved searches. Each search sits in exactly one posting list keyed by
+ * its most selective predicate, so a job only has to be verified against the searches posted under its own
+ * company, words, location words and enum values rather than against every saved search.
+ *
+ * <p>Searches saved or deleted on this node are applied after commit; those from other nodes arrive through
+ * {@link SavedSearchChangePoller}, so a job written here matches them from the next poll on.
+ */
+@Service
+public class SavedSearchPercolator implements ApplicationRunner, ChangeSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchPercolator.class);
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final String INSERT_MATCH_SQL =
+            "INSERT INTO saved_search_match (saved_search_id, job_id, job_version, matched_at) "
+                    + "SELECT s.id, ?, ?, ? FROM saved_search s WHERE s.id = ? "
+                    + "ON CONFLICT (saved_search_id, job_id) DO NOTHING";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor alertExecutor;
+    private final int maxDeferred;
+    private final List<JobChangedEvent> deferred = new ArrayList<>();
+    private final ConcurrentMap<Long, SavedSearchQuery> queries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public SavedSearchPercolator(
+            SavedSearchRepository savedSearchRepository,
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("alertExecutor") Executor alertExecutor,
+            @Value("${jobboard.alerts.max-deferred:10000}") int maxDeferred) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.alertExecutor = alertExecutor;
+        this.maxDeferred = maxDeferred;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0;
+        while (true) {
+            List<SavedSearch> chunk = savedSearchRepository.findNextChunk(afterId, PageRequest.ofSize(LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            chunk.forEach(this::index);
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        log.info("Indexed {} saved searches under {} keys", queries.size(), postings.size());
+    }
+
+    public void index(SavedSearch search) {
+        SavedSearchQuery query = SavedSearchQuery.of(search);
+        SavedSearchQuery previous = queries.put(query.id(), query);
+        if (previous != null) {
+            removePosting(previous);
+        }
+        postings.computeIfAbsent(query.indexKey(), key -> ConcurrentHashMap.newKeySet()).add(query.id());
+    }
+
+    public void unindex(Long searchId) {
+        SavedSearchQuery previous = queries.remove(searchId);
+        if (previous != null) {
+            removePosting(previous);
+        }
+    }
+
+    public List<Long> match(JobDetailDTO job) {
+        Set<String> textTokens = TextTokenizer.tokenSet(job.getTitle(), job.getDescription());
+        Set<String> locationTokens = TextTokenizer.tokenSet(job.getLocation());
+
+        List<String> keys = new ArrayList<>(textTokens.size() + locationTokens.size() + 5);
+        keys.add(SavedSearchQuery.MATCH_ALL);
+        if (job.getCompany() != null) {
+            keys.add(SavedSearchQuery.companyKey(job.getCompany().getId()));
+        }
+        textTokens.forEach(token -> keys.add(SavedSearchQuery.termKey(token)));
+        locationTokens.forEach(token -> keys.add(SavedSearchQuery.locationKey(token)));
+        if (job.getExperienceLevel() != null) {
+            keys.add(SavedSearchQuery.levelKey(job.getExperienceLevel()));
+        }
+        if (job.getRemoteOption() != null) {
+            keys.add(SavedSearchQuery.remoteKey(job.getRemoteOption()));
+        }
+        if (job.getJobType() != null) {
+            keys.add(SavedSearchQuery.typeKey(job.getJobType()));
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (String key : keys) {
+            Set<Long> posting = postings.get(key);
+            if (posting != null) {
+                candidates.addAll(posting);
+            }
+        }
+        List<Long> matches = new ArrayList<>();
+        for (Long candidate : candidates) {
+            SavedSearchQuery query = queries.get(candidate);
+            if (query != null && query.matches(job, textTokens, locationTokens)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches are stored in the shared database, so only the node that made a change percolates it. A search
+     * another node deleted may still be indexed here until the next poll; the insert skips it.
+     */
+    @Override
+    public boolean receivesRemoteChanges() {
+        return false;
+    }
+
+    /**
+     * Percolates the whole batch in one alert task and stores its matches with one JDBC batch. When the alert
+     * executor is full the changes are held and resubmitted with the next batch, up to {@code max-deferred};
+     * they are never percolated on the dispatcher thread.
+     */
+    @Override
+    public void onChanges(List<ChangeEvent> batch) {
+        List<JobChangedEvent> jobs = new ArrayList<>(deferred);
+        deferred.clear();
+        for (ChangeEvent change : batch) {
+            if (change instanceof JobChangedEvent event
+                    && !event.type().removesJob()
+                    && Boolean.TRUE.equals(event.job().getIsActive())) {
+                jobs.add(event);
+            }
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+        try {
+            alertExecutor.execute(() -> percolate(jobs));
+        } catch (TaskRejectedException e) {
+            int kept = Math.min(jobs.size(), maxDeferred);
+            deferred.addAll(jobs.subList(jobs.size() - kept, jobs.size()));
+            log.warn("Alert queue full; deferring {} job changes, dropping {}", kept, jobs.size() - kept);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            unindex(event.search().getId());
+        } else {
+            index(event.search());
+        }
+    }
+
+    private void percolate(List<JobChangedEvent> events) {
+        try {
+            Timestamp matchedAt = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>();
+            for (JobChangedEvent event : events) {
+                for (Long searchId : match(event.job())) {
+                    rows.add(new Object[] {event.jobId(), event.version(), matchedAt, searchId});
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, rows);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to percolate {} job changes", events.size(), ex);
+        }
+    }
+
+    private void removePosting(SavedSearchQuery query) {
+        postings.computeIfPresent(query.indexKey(), (key, ids) -> {
+            ids.remove(query.id());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
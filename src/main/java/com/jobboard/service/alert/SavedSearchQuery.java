@@ -0,0 +1,124 @@
+package com.jobboard.service.alert;
+
+import com.jobboard.model.dto.JobDetailDTO;
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import com.jobboard.model.entity.SavedSearch;
+import com.jobboard.util.TextTokenizer;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * A saved search compiled for matching. {@link #indexKey()} picks the single predicate the percolator indexes
+ * the search under: company, then the longest keyword word, then the longest location word, then the enum
+ * filters, roughly from most to least selective. Searches with none of these go in the match-all bucket.
+ */
+record SavedSearchQuery(
+        Long id,
+        Set<String> keywordTokens,
+        Set<String> locationTokens,
+        JobType jobType,
+        ExperienceLevel experienceLevel,
+        RemoteOption remoteOption,
+        Long companyId,
+        BigDecimal salaryMin,
+        BigDecimal salaryMax) {
+
+    static final String MATCH_ALL = "*";
+
+    static SavedSearchQuery of(SavedSearch search) {
+        return new SavedSearchQuery(
+                search.getId(),
+                TextTokenizer.tokenSet(search.getKeyword()),
+                TextTokenizer.tokenSet(search.getLocation()),
+                search.getJobType(),
+                search.getExperienceLevel(),
+                search.getRemoteOption(),
+                search.getCompanyId(),
+                search.getSalaryMin(),
+                search.getSalaryMax());
+    }
+
+    static String companyKey(Long companyId) {
+        return "company:" + companyId;
+    }
+
+    static String termKey(String token) {
+        return "term:" + token;
+    }
+
+    static String locationKey(String token) {
+        return "location:" + token;
+    }
+
+    static String levelKey(ExperienceLevel level) {
+        return "level:" + level;
+    }
+
+    static String remoteKey(RemoteOption remoteOption) {
+        return "remote:" + remoteOption;
+    }
+
+    static String typeKey(JobType jobType) {
+        return "type:" + jobType;
+    }
+
+    String indexKey() {
+        if (companyId != null) {
+            return companyKey(companyId);
+        }
+        if (!keywordTokens.isEmpty()) {
+            return termKey(longest(keywordTokens));
+        }
+        if (!locationTokens.isEmpty()) {
+            return locationKey(longest(locationTokens));
+        }
+        if (experienceLevel != null) {
+            return levelKey(experienceLevel);
+        }
+        if (remoteOption != null) {
+            return remoteKey(remoteOption);
+        }
+        if (jobType != null) {
+            return typeKey(jobType);
+        }
+        return MATCH_ALL;
+    }
+
+    boolean matches(JobDetailDTO job, Set<String> textTokens, Set<String> jobLocationTokens) {
+        if (companyId != null && (job.getCompany() == null || !companyId.equals(job.getCompany().getId()))) {
+            return false;
+        }
+        if (jobType != null && jobType != job.getJobType()) {
+            return false;
+        }
+        if (experienceLevel != null && experienceLevel != job.getExperienceLevel()) {
+            return false;
+        }
+        if (remoteOption != null && remoteOption != job.getRemoteOption()) {
+            return false;
+        }
+        if (!textTokens.containsAll(keywordTokens) || !jobLocationTokens.containsAll(locationTokens)) {
+            return false;
+        }
+        if (salaryMin != null) {
+            BigDecimal top = job.getSalaryMax() != null ? job.getSalaryMax() : job.getSalaryMin();
+            if (top == null || top.compareTo(salaryMin) < 0) {
+                return false;
+            }
+        }
+        if (salaryMax != null) {
+            BigDecimal bottom = job.getSalaryMin() != null ? job.getSalaryMin() : job.getSalaryMax();
+            if (bottom == null || bottom.compareTo(salaryMax) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String longest(Set<String> tokens) {
+        return tokens.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+    }
+}
@@ -0,0 +1,71 @@
+package com.jobboard.service.catalog;
+
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.repository.CompanyRepository;
+import com.jobboard.repository.CompanySummaryView;
+import com.jobboard.service.ChangeEventDispatcher;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks up company renames and moves made on other nodes, which never reach this node as events. Every
+ * {@code refresh-interval} it reads the summaries of companies updated since the previous poll, less
+ * {@code refresh-overlap} to allow for clock skew between nodes, and passes those with a newer version than
+ * {@link CompanySummaryCache} holds to the dispatcher as company updates, so the cache, the catalog and the
+ * rendered job fragments all see them. Deleted companies need nothing here: their jobs leave through the
+ * change feed.
+ */
+@Component
+public class CompanyChangePoller {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyChangePoller.class);
+
+    private final CompanyRepository companyRepository;
+    private final CompanySummaryCache companySummaryCache;
+    private final ChangeEventDispatcher dispatcher;
+    private final Duration overlap;
+    private LocalDateTime lastPoll;
+
+    public CompanyChangePoller(
+            CompanyRepository companyRepository,
+            CompanySummaryCache companySummaryCache,
+            ChangeEventDispatcher dispatcher,
+            @Value("${jobboard.company-summaries.refresh-overlap:PT1M}") Duration overlap) {
+        this.companyRepository = companyRepository;
+        this.companySummaryCache = companySummaryCache;
+        this.dispatcher = dispatcher;
+        this.overlap = overlap;
+        this.lastPoll = LocalDateTime.now();
+    }
+
+    @Scheduled(
+            initialDelayString = "${jobboard.company-summaries.refresh-interval:PT30S}",
+            fixedDelayString = "${jobboard.company-summaries.refresh-interval:PT30S}")
+    public synchronized void poll() throws InterruptedException {
+        LocalDateTime started = LocalDateTime.now();
+        int changed = 0;
+        try {
+            for (CompanySummaryView view : companyRepository.findSummariesUpdatedSince(lastPoll.minus(overlap))) {
+                CompanySummaryCache.Entry entry = CompanySummaryCache.toEntry(view);
+                CompanySummaryCache.Entry cached = companySummaryCache.peek(view.getId());
+                if (cached == null || entry.isNewerThan(cached)) {
+                    dispatcher.deliverRemote(new CompanyChangedEvent(
+                            ChangeType.UPDATED, view.getId(), view.getVersion(), entry.summary()));
+                    changed++;
+                }
+            }
+            lastPoll = started;
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll for company changes since {}; retrying with the next run", lastPoll, e);
+        }
+        if (changed > 0) {
+            log.debug("Picked up {} company changes", changed);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobboard.service.catalog;
+
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.model.dto.CompanySummaryDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.repository.CompanyRepository;
+import com.jobboard.repository.CompanySummaryView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Id, name and location of every company, so job DTOs can be built from {@code company_id} alone and job
+ * queries need neither the company join nor the entity. Loaded in full at startup and kept current from
+ * committed company changes, including those made on other nodes, which {@link CompanyChangePoller} reads back
+ * from {@code company.updated_at}; an id that is not cached yet (before the load finishes, or a company whose
+ * creation has not been delivered) is read once by primary key. Entries only move forward in version, so a
+ * slow lookup cannot overwrite a newer change.
+ */
+@Component
+public class CompanySummaryCache implements ApplicationRunner, ChangeSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanySummaryCache.class);
+
+    /** {@code summary} is shared by every DTO built from it and must not be modified. */
+    public record Entry(CompanySummaryDTO summary, Integer version) {
+
+        boolean isNewerThan(Entry other) {
+            return other.version == null || (version != null && version > other.version);
+        }
+    }
+
+    private final CompanyRepository companyRepository;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter misses;
+
+    public CompanySummaryCache(CompanyRepository companyRepository, MeterRegistry meterRegistry) {
+        this.companyRepository = companyRepository;
+        this.misses = meterRegistry.counter("jobboard.company-summaries.misses");
+        Gauge.builder("jobboard.company-summaries.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        companyRepository.findAllSummaries().forEach(view -> put(toEntry(view)));
+        log.info("Loaded {} company summaries", entries.size());
+    }
+
+    /** Returns null for an unknown company. */
+    public Entry get(Long companyId) {
+        if (companyId == null) {
+            return null;
+        }
+        Entry entry = entries.get(companyId);
+        if (entry != null) {
+            return entry;
+        }
+        misses.increment();
+        return companyRepository.findSummaryById(companyId)
+                .map(view -> put(toEntry(view)))
+                .orElse(null);
+    }
+
+    /** The cached entry, without reading the database on a miss. */
+    Entry peek(Long companyId) {
+        return entries.get(companyId);
+    }
+
+    public CompanySummaryDTO summary(Long companyId) {
+        Entry entry = get(companyId);
+        return entry != null ? entry.summary() : null;
+    }
+
+    @Override
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            entries.remove(event.companyId());
+        } else if (event.company() != null) {
+            put(new Entry(event.company(), event.version()));
+        }
+    }
+
+    private Entry put(Entry entry) {
+        return entries.merge(entry.summary().getId(), entry,
+                (current, incoming) -> incoming.isNewerThan(current) ? incoming : current);
+    }
+
+    static Entry toEntry(CompanySummaryView view) {
+        return new Entry(new CompanySummaryDTO(view.getId(), view.getName(), view.getLocation()), view.getVersion());
+    }
+}
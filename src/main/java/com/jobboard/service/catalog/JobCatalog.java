@@ -0,0 +1,117 @@
+package com.jobboard.service.catalog;
+
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.dto.CompanySummaryDTO;
+import com.jobboard.model.entity.ChangeType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process catalog of every job row, kept current from committed job and company changes and persisted by
+ * {@link JobCatalogSnapshotService} so restarts do not need a full table scan. Job changes made on other nodes
+ * arrive through {@code JobChangeFeedTailer} within a few seconds.
+ */
+@Component
+public class JobCatalog implements ChangeSubscriber {
+
+    private final ConcurrentMap<Long, JobCatalogEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong modifications = new AtomicLong();
+
+    public Optional<JobCatalogEntry> get(Long id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    public Collection<JobCatalogEntry> entries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long modificationCount() {
+        return modifications.get();
+    }
+
+    public LocalDateTime latestUpdate() {
+        LocalDateTime latest = null;
+        for (JobCatalogEntry entry : entries.values()) {
+            LocalDateTime updatedAt = entry.updatedAt();
+            if (updatedAt != null && (latest == null || updatedAt.isAfter(latest))) {
+                latest = updatedAt;
+            }
+        }
+        return latest;
+    }
+
+    public void put(JobCatalogEntry entry) {
+        entries.merge(entry.id(), entry, (current, incoming) -> incoming.isNewerThan(current) ? incoming : current);
+        modifications.incrementAndGet();
+    }
+
+    public void remove(Long id) {
+        if (entries.remove(id) != null) {
+            modifications.incrementAndGet();
+        }
+    }
+
+    public void retainOnly(Set<Long> ids) {
+        if (entries.keySet().retainAll(ids)) {
+            modifications.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        modifications.incrementAndGet();
+    }
+
+    public void updateCompany(CompanySummaryDTO company) {
+        List<Long> affected = new ArrayList<>();
+        entries.forEach((id, entry) -> {
+            if (company.getId().equals(entry.companyId())) {
+                affected.add(id);
+            }
+        });
+        for (Long id : affected) {
+            entries.computeIfPresent(id, (key, entry) -> entry.withCompany(company));
+        }
+        if (!affected.isEmpty()) {
+            modifications.incrementAndGet();
+        }
+    }
+
+    public void removeCompany(Long companyId) {
+        if (entries.values().removeIf(entry -> companyId.equals(entry.companyId()))) {
+            modifications.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.type().removesJob()) {
+            remove(event.jobId());
+        } else {
+            put(JobCatalogEntry.of(event.job(), event.version()));
+        }
+    }
+
+    @Override
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            removeCompany(event.companyId());
+        } else if (event.type() == ChangeType.UPDATED) {
+            updateCompany(event.company());
+        }
+    }
+}
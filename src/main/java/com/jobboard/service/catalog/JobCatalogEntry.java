@@ -0,0 +1,90 @@
+package com.jobboard.service.catalog;
+
+import com.jobboard.model.dto.CompanySummaryDTO;
+import com.jobboard.model.dto.JobDTO;
+import com.jobboard.model.dto.JobDetailDTO;
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Compact, immutable view of a job kept by {@link JobCatalog}. Deliberately excludes the description so the
+ * catalog (and its snapshot files) stay small.
+ */
+public record JobCatalogEntry(
+        Long id,
+        Integer version,
+        Long companyId,
+        String companyName,
+        String companyLocation,
+        String title,
+        String location,
+        BigDecimal salaryMin,
+        BigDecimal salaryMax,
+        JobType jobType,
+        ExperienceLevel experienceLevel,
+        RemoteOption remoteOption,
+        LocalDateTime postedDate,
+        LocalDateTime expiryDate,
+        Boolean isActive,
+        LocalDateTime updatedAt) {
+
+    public static JobCatalogEntry of(JobDetailDTO dto, Integer version) {
+        CompanySummaryDTO company = dto.getCompany();
+        return new JobCatalogEntry(
+                dto.getId(),
+                version,
+                company != null ? company.getId() : null,
+                company != null ? company.getName() : null,
+                company != null ? company.getLocation() : null,
+                dto.getTitle(),
+                dto.getLocation(),
+                dto.getSalaryMin(),
+                dto.getSalaryMax(),
+                dto.getJobType(),
+                dto.getExperienceLevel(),
+                dto.getRemoteOption(),
+                dto.getPostedDate(),
+                dto.getExpiryDate(),
+                dto.getIsActive(),
+                dto.getUpdatedAt());
+    }
+
+    public boolean isLive(LocalDateTime now) {
+        return Boolean.TRUE.equals(isActive) && (expiryDate == null || expiryDate.isAfter(now));
+    }
+
+    public boolean isNewerThan(JobCatalogEntry other) {
+        if (other == null) {
+            return true;
+        }
+        if (version == null || other.version == null) {
+            return true;
+        }
+        return version >= other.version;
+    }
+
+    public JobCatalogEntry withCompany(CompanySummaryDTO company) {
+        return new JobCatalogEntry(id, version, company.getId(), company.getName(), company.getLocation(),
+                title, location, salaryMin, salaryMax, jobType, experienceLevel, remoteOption,
+                postedDate, expiryDate, isActive, updatedAt);
+    }
+
+    public JobDTO toDTO() {
+        JobDTO dto = new JobDTO();
+        dto.setId(id);
+        dto.setTitle(title);
+        dto.setLocation(location);
+        dto.setSalaryMin(salaryMin);
+        dto.setSalaryMax(salaryMax);
+        dto.setJobType(jobType);
+        dto.setExperienceLevel(experienceLevel);
+        dto.setRemoteOption(remoteOption);
+        dto.setPostedDate(postedDate);
+        dto.setIsActive(isActive);
+        dto.setCompany(new CompanySummaryDTO(companyId, companyName, companyLocation));
+        return dto;
+    }
+}
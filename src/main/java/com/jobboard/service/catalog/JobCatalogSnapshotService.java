@@ -0,0 +1,179 @@
+package com.jobboard.service.catalog;
+
+import com.jobboard.model.entity.Job;
+import com.jobboard.repository.CompanyRepository;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.util.CompanyMapper;
+import com.jobboard.util.JobMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Populates {@link JobCatalog} on startup and periodically persists it.
+ *
+ * <p>Warm start maps the newest valid snapshot and replays only jobs and companies whose {@code updatedAt} is
+ * at or after the snapshot watermark (minus an overlap to cover transactions that committed late), then drops
+ * ids that no longer exist. Cold start pages through the whole {@code job} table by id.
+ */
+@Service
+public class JobCatalogSnapshotService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCatalogSnapshotService.class);
+
+    private final JobCatalog catalog;
+    private final JobCatalogSnapshotStore store;
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final JobMapper jobMapper;
+    private final CompanyMapper companyMapper;
+    private final boolean snapshotsEnabled;
+    private final Duration replayOverlap;
+    private final int loadChunkSize;
+
+    private volatile long lastPersistedModification = -1;
+    private volatile boolean loaded;
+
+    public JobCatalogSnapshotService(
+            JobCatalog catalog,
+            JobCatalogSnapshotStore store,
+            JobRepository jobRepository,
+            CompanyRepository companyRepository,
+            JobMapper jobMapper,
+            CompanyMapper companyMapper,
+            @Value("${jobboard.catalog.snapshot.enabled:true}") boolean snapshotsEnabled,
+            @Value("${jobboard.catalog.snapshot.replay-overlap:PT5M}") Duration replayOverlap,
+            @Value("${jobboard.catalog.load-chunk-size:1000}") int loadChunkSize) {
+        this.catalog = catalog;
+        this.store = store;
+        this.jobRepository = jobRepository;
+        this.companyRepository = companyRepository;
+        this.jobMapper = jobMapper;
+        this.companyMapper = companyMapper;
+        this.snapshotsEnabled = snapshotsEnabled;
+        this.replayOverlap = replayOverlap;
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<JobCatalogSnapshotStore.Snapshot> snapshot = Optional.empty();
+        long started = System.nanoTime();
+        if (snapshotsEnabled) {
+            snapshot = store.readLatest();
+        }
+        if (snapshot.isPresent() && snapshot.get().watermark() != null) {
+            warmStart(snapshot.get(), started);
+        } else {
+            coldStart(started);
+        }
+        loaded = true;
+    }
+
+    private void warmStart(JobCatalogSnapshotStore.Snapshot snapshot, long started) {
+        long mapped = System.nanoTime();
+        snapshot.entries().forEach(catalog::put);
+
+        LocalDateTime since = snapshot.watermark().minus(replayOverlap);
+        List<Job> changedJobs = jobRepository.findUpdatedSinceWithCompany(since);
+        for (Job job : changedJobs) {
+            catalog.put(JobCatalogEntry.of(jobMapper.toDetailDTO(job), job.getVersion()));
+        }
+        companyRepository.findByUpdatedAtGreaterThanEqual(since)
+                .forEach(company -> catalog.updateCompany(companyMapper.toSummaryDTO(company)));
+        catalog.retainOnly(new HashSet<>(jobRepository.findAllIds()));
+        long finished = System.nanoTime();
+
+        log.info("Job catalog warm-started from {} in {} ms: {} entries mapped in {} ms, "
+                        + "{} changed jobs replayed in {} ms",
+                snapshot.file().getFileName(),
+                millis(started, finished),
+                snapshot.entries().size(),
+                millis(started, mapped),
+                changedJobs.size(),
+                millis(mapped, finished));
+    }
+
+    /**
+     * Reloads every job and drops entries whose job no longer exists, for when this node has missed changes
+     * that the feed can no longer replay.
+     */
+    public void resync() {
+        long started = System.nanoTime();
+        Set<Long> ids = new HashSet<>();
+        int loadedCount = loadAll(ids::add);
+        catalog.retainOnly(ids);
+        log.info("Job catalog resynced {} jobs from database in {} ms",
+                loadedCount, millis(started, System.nanoTime()));
+    }
+
+    private void coldStart(long started) {
+        int loadedCount = loadAll(id -> { });
+        log.info("Job catalog cold-loaded {} jobs from database in {} ms",
+                loadedCount, millis(started, System.nanoTime()));
+    }
+
+    private int loadAll(LongConsumer loaded) {
+        long afterId = 0;
+        int loadedCount = 0;
+        while (true) {
+            List<Job> chunk = jobRepository.findNextChunkWithCompany(afterId, PageRequest.ofSize(loadChunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (Job job : chunk) {
+                catalog.put(JobCatalogEntry.of(jobMapper.toDetailDTO(job), job.getVersion()));
+                loaded.accept(job.getId());
+            }
+            loadedCount += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        return loadedCount;
+    }
+
+    @Scheduled(
+            initialDelayString = "${jobboard.catalog.snapshot.interval:PT5M}",
+            fixedDelayString = "${jobboard.catalog.snapshot.interval:PT5M}")
+    public void writeSnapshot() {
+        if (!snapshotsEnabled || !loaded) {
+            return;
+        }
+        long modification = catalog.modificationCount();
+        if (modification == lastPersistedModification) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            Path file = store.write(catalog.entries(), catalog.latestUpdate());
+            lastPersistedModification = modification;
+            log.info("Wrote job catalog snapshot {} ({} entries) in {} ms",
+                    file.getFileName(), catalog.size(), millis(started, System.nanoTime()));
+        } catch (IOException ex) {
+            log.warn("Failed to write job catalog snapshot", ex);
+        }
+    }
+
+    @PreDestroy
+    public void writeFinalSnapshot() {
+        writeSnapshot();
+    }
+
+    private static long millis(long fromNanos, long toNanos) {
+        return Duration.ofNanos(toNanos - fromNanos).toMillis();
+    }
+}
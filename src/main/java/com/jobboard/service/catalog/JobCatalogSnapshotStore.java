@@ -0,0 +1,312 @@
+package com.jobboard.service.catalog;
+
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and writes job catalog snapshot files.
+ *
+ * <p>Layout: a fixed 40-byte header (magic, format version, watermark seconds + nanos, entry count, payload
+ * length, CRC32 of the payload) followed by the entries. Files are written to a temp file and atomically
+ * renamed, and read back through a read-only memory mapping.
+ */
+@Component
+public class JobCatalogSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCatalogSnapshotStore.class);
+
+    static final int MAGIC = 0x4A42534E;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 40;
+
+    private static final String FILE_PREFIX = "job-catalog-v" + FORMAT_VERSION + "-";
+    private static final String FILE_SUFFIX = ".snap";
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final Path directory;
+    private final int retainedFiles;
+
+    public JobCatalogSnapshotStore(
+            @Value("${jobboard.catalog.snapshot.directory:./data/snapshots}") String directory,
+            @Value("${jobboard.catalog.snapshot.retained-files:3}") int retainedFiles) {
+        this.directory = Paths.get(directory);
+        this.retainedFiles = Math.max(1, retainedFiles);
+    }
+
+    public record Snapshot(Path file, LocalDateTime watermark, List<JobCatalogEntry> entries) {
+    }
+
+    public Path write(Collection<JobCatalogEntry> entries, LocalDateTime watermark) throws IOException {
+        Files.createDirectories(directory);
+        Path target =
+                directory.resolve(String.format("%s%020d%s", FILE_PREFIX, System.currentTimeMillis(), FILE_SUFFIX));
+        Path temp = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            long payloadLength;
+            int count = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_BYTES);
+                CountingOutputStream counting = new CountingOutputStream(Channels.newOutputStream(channel));
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new CheckedOutputStream(counting, crc), 64 * 1024));
+                for (JobCatalogEntry entry : entries) {
+                    writeEntry(out, entry);
+                    count++;
+                }
+                out.flush();
+                payloadLength = counting.count;
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC);
+                header.putInt(FORMAT_VERSION);
+                putTime(header, watermark);
+                header.putInt(count);
+                header.putLong(payloadLength);
+                header.putLong(crc.getValue());
+                header.flip();
+                channel.write(header, 0);
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        pruneOldFiles();
+        return target;
+    }
+
+    public Optional<Snapshot> readLatest() {
+        for (Path file : listSnapshotFiles()) {
+            try {
+                return Optional.of(read(file));
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Ignoring unreadable job catalog snapshot {}: {}", file, ex.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    Snapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("file shorter than header");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("bad magic");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("unsupported format version " + formatVersion);
+        }
+        LocalDateTime watermark = getTime(buffer);
+        int count = buffer.getInt();
+        long payloadLength = buffer.getLong();
+        long expectedCrc = buffer.getLong();
+        if (payloadLength != buffer.capacity() - HEADER_BYTES) {
+            throw new IOException("truncated payload");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, (int) payloadLength));
+        if (crc.getValue() != expectedCrc) {
+            throw new IOException("checksum mismatch");
+        }
+        buffer.position(HEADER_BYTES);
+        List<JobCatalogEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(readEntry(buffer));
+        }
+        return new Snapshot(file, watermark, entries);
+    }
+
+    private List<Path> listSnapshotFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException ex) {
+            log.warn("Could not list job catalog snapshots in {}: {}", directory, ex.getMessage());
+            return List.of();
+        }
+    }
+
+    private void pruneOldFiles() {
+        List<Path> files = listSnapshotFiles();
+        for (int i = retainedFiles; i < files.size(); i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException ex) {
+                log.warn("Could not delete old job catalog snapshot {}: {}", files.get(i), ex.getMessage());
+            }
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, JobCatalogEntry entry) throws IOException {
+        out.writeLong(entry.id());
+        out.writeInt(entry.version() != null ? entry.version() : NULL_INT);
+        out.writeLong(entry.companyId() != null ? entry.companyId() : NULL_LONG);
+        writeString(out, entry.companyName());
+        writeString(out, entry.companyLocation());
+        writeString(out, entry.title());
+        writeString(out, entry.location());
+        writeString(out, entry.salaryMin() != null ? entry.salaryMin().toPlainString() : null);
+        writeString(out, entry.salaryMax() != null ? entry.salaryMax().toPlainString() : null);
+        writeString(out, entry.jobType() != null ? entry.jobType().name() : null);
+        writeString(out, entry.experienceLevel() != null ? entry.experienceLevel().name() : null);
+        writeString(out, entry.remoteOption() != null ? entry.remoteOption().name() : null);
+        writeTime(out, entry.postedDate());
+        writeTime(out, entry.expiryDate());
+        out.writeByte(entry.isActive() == null ? -1 : (entry.isActive() ? 1 : 0));
+        writeTime(out, entry.updatedAt());
+    }
+
+    private static JobCatalogEntry readEntry(ByteBuffer in) {
+        long id = in.getLong();
+        int version = in.getInt();
+        long companyId = in.getLong();
+        String companyName = readString(in);
+        String companyLocation = readString(in);
+        String title = readString(in);
+        String location = readString(in);
+        String salaryMin = readString(in);
+        String salaryMax = readString(in);
+        String jobType = readString(in);
+        String experienceLevel = readString(in);
+        String remoteOption = readString(in);
+        LocalDateTime postedDate = getTime(in);
+        LocalDateTime expiryDate = getTime(in);
+        byte active = in.get();
+        LocalDateTime updatedAt = getTime(in);
+        return new JobCatalogEntry(
+                id,
+                version == NULL_INT ? null : version,
+                companyId == NULL_LONG ? null : companyId,
+                companyName,
+                companyLocation,
+                title,
+                location,
+                salaryMin != null ? new BigDecimal(salaryMin) : null,
+                salaryMax != null ? new BigDecimal(salaryMax) : null,
+                jobType != null ? JobType.valueOf(jobType) : null,
+                experienceLevel != null ? ExperienceLevel.valueOf(experienceLevel) : null,
+                remoteOption != null ? RemoteOption.valueOf(remoteOption) : null,
+                postedDate,
+                expiryDate,
+                active == -1 ? null : active == 1,
+                updatedAt);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NULL_LONG);
+            out.writeInt(0);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static void putTime(ByteBuffer out, LocalDateTime value) {
+        if (value == null) {
+            out.putLong(NULL_LONG);
+            out.putInt(0);
+            return;
+        }
+        out.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.putInt(value.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == NULL_LONG ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+}
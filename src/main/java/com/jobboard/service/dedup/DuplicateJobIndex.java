@@ -0,0 +1,199 @@
+package com.jobboard.service.dedup;
+
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.repository.JobFingerprintView;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.util.SimHash;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * LSH index over job SimHash fingerprints, partitioned by company. A fingerprint is split into
+ * {@value #BANDS} bands of {@value #BAND_BITS} bits; two fingerprints within {@code BANDS - 1} bits of each
+ * other must agree on at least one band, so probing the job's own band buckets finds every near-duplicate
+ * within the configured distance without scanning the company's other postings.
+ */
+@Component
+public class DuplicateJobIndex implements ApplicationRunner, ChangeSubscriber {
+
+    static final int BANDS = 8;
+    static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateJobIndex.class);
+    private static final int LOAD_CHUNK_SIZE = 5000;
+    private static final Set<String> FINGERPRINT_FIELDS = Set.of("title", "description", "companyId");
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+
+    private record Entry(long companyId, long fingerprint) {
+    }
+
+    private record BucketKey(long companyId, int band, int value) {
+    }
+
+    private final JobRepository jobRepository;
+    private final int maxDistance;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<BucketKey, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public DuplicateJobIndex(
+            JobRepository jobRepository,
+            @Value("${jobboard.dedup.max-distance:6}") int maxDistance) {
+        this.jobRepository = jobRepository;
+        this.maxDistance = Math.min(Math.max(0, maxDistance), BANDS - 1);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0;
+        while (true) {
+            List<JobFingerprintView> chunk =
+                    jobRepository.findNextFingerprintChunk(afterId, PageRequest.ofSize(LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (JobFingerprintView view : chunk) {
+                put(view.getId(), view.getCompanyId(), view.getContentFingerprint());
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        loaded = true;
+        log.info("Indexed {} job fingerprints for duplicate detection", entries.size());
+    }
+
+    /** False until the startup load has finished; until then only the database knows every fingerprint. */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Advisory lock keys for the fingerprint's band buckets. Two fingerprints close enough to be duplicates share
+     * a band, so creates that could match each other always contend for at least one key.
+     */
+    public List<Long> bandLockKeys(long companyId, long fingerprint) {
+        List<Long> keys = new ArrayList<>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            keys.add(companyId << (BAND_BITS + 3) | (long) band << BAND_BITS | bandValue(fingerprint, band));
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the closest indexed job of the same company within the configured distance, preferring the
+     * oldest on ties. When {@code beforeJobId} is given only older jobs are considered.
+     */
+    public Optional<Long> findNearDuplicate(Long companyId, long fingerprint, Long beforeJobId) {
+        Long best = null;
+        int bestDistance = maxDistance + 1;
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = buckets.get(new BucketKey(companyId, band, bandValue(fingerprint, band)));
+            if (bucket == null) {
+                continue;
+            }
+            for (Long candidate : bucket) {
+                if (beforeJobId != null && candidate >= beforeJobId) {
+                    continue;
+                }
+                Entry entry = entries.get(candidate);
+                if (entry == null) {
+                    continue;
+                }
+                int distance = SimHash.distance(fingerprint, entry.fingerprint());
+                if (distance < bestDistance || (distance == bestDistance && best != null && candidate < best)) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /** Same choice as {@link #findNearDuplicate(Long, long, Long)}, over fingerprints read from the database. */
+    public Optional<Long> findNearDuplicate(List<JobFingerprintView> candidates, long fingerprint) {
+        Long best = null;
+        int bestDistance = maxDistance + 1;
+        for (JobFingerprintView candidate : candidates) {
+            int distance = SimHash.distance(fingerprint, candidate.getContentFingerprint());
+            if (distance < bestDistance || (distance == bestDistance && best != null && candidate.getId() < best)) {
+                best = candidate.getId();
+                bestDistance = distance;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public void put(Long jobId, Long companyId, long fingerprint) {
+        Entry entry = new Entry(companyId, fingerprint);
+        Entry previous = entries.put(jobId, entry);
+        if (previous != null) {
+            if (previous.equals(entry)) {
+                return;
+            }
+            removeBuckets(jobId, previous);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(new BucketKey(companyId, band, bandValue(fingerprint, band)),
+                    key -> ConcurrentHashMap.newKeySet()).add(jobId);
+        }
+    }
+
+    public void remove(Long jobId) {
+        Entry previous = entries.remove(jobId);
+        if (previous != null) {
+            removeBuckets(jobId, previous);
+        }
+    }
+
+    @Override
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.touches(FINGERPRINT_FIELDS)) {
+            return;
+        }
+        if (event.type().removesJob()) {
+            remove(event.jobId());
+        } else if (event.job().getCompany() != null) {
+            put(event.jobId(), event.job().getCompany().getId(),
+                    SimHash.fingerprint(event.job().getTitle(), event.job().getDescription()));
+        }
+    }
+
+    @Override
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (event.type() != ChangeType.DELETED) {
+            return;
+        }
+        entries.forEach((jobId, entry) -> {
+            if (entry.companyId() == event.companyId()) {
+                remove(jobId);
+            }
+        });
+    }
+
+    private void removeBuckets(Long jobId, Entry entry) {
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfPresent(new BucketKey(entry.companyId(), band, bandValue(entry.fingerprint(), band)),
+                    (key, ids) -> {
+                        ids.remove(jobId);
+                        return ids.isEmpty() ? null : ids;
+                    });
+        }
+    }
+
+    private static int bandValue(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & BAND_MASK);
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobboard.service.dedup;
+
+public enum DuplicatePolicy {
+    /** Skip near-duplicate detection on create. */
+    OFF,
+    /** Create the job but record which existing job it duplicates. */
+    FLAG,
+    /** Refuse the job with 409 Conflict. */
+    REJECT,
+    /** Apply the new posting's fields to the existing job instead of creating a row. */
+    MERGE
+}
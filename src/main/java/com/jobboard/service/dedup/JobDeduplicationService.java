@@ -0,0 +1,98 @@
+package com.jobboard.service.dedup;
+
+import com.jobboard.exception.OperationInProgressException;
+import com.jobboard.model.dto.DeduplicationReportDTO;
+import com.jobboard.model.entity.Job;
+import com.jobboard.repository.JobRepository;
+import com.jobboard.util.SimHash;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Walks the existing catalog by id, one short transaction per chunk: backfills missing fingerprints and flags
+ * each job that is a near-duplicate of an older job of the same company. Flagging only sets
+ * {@code duplicate_of_id}; it does not bump the job version or change anything users see.
+ */
+@Service
+public class JobDeduplicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobDeduplicationService.class);
+
+    private final JobRepository jobRepository;
+    private final DuplicateJobIndex duplicateJobIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public JobDeduplicationService(
+            JobRepository jobRepository,
+            DuplicateJobIndex duplicateJobIndex,
+            PlatformTransactionManager transactionManager,
+            @Value("${jobboard.dedup.batch-chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.duplicateJobIndex = duplicateJobIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${jobboard.dedup.batch-cron:-}")
+    public void scheduledDeduplicate() {
+        DeduplicationReportDTO report = deduplicate();
+        log.info("Scheduled job deduplication: {}", report);
+    }
+
+    public DeduplicationReportDTO deduplicate() {
+        if (!running.compareAndSet(false, true)) {
+            throw new OperationInProgressException("Job deduplication is already running");
+        }
+        long started = System.currentTimeMillis();
+        long[] counters = new long[3];
+        try {
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                Long lastId = transactionTemplate.execute(status -> processChunk(cursor, counters));
+                if (lastId == null) {
+                    break;
+                }
+                afterId = lastId;
+            }
+        } finally {
+            running.set(false);
+        }
+        return new DeduplicationReportDTO(counters[0], counters[1], counters[2], System.currentTimeMillis() - started);
+    }
+
+    private Long processChunk(long afterId, long[] counters) {
+        List<Job> chunk = jobRepository.findNextChunk(afterId, PageRequest.ofSize(chunkSize));
+        if (chunk.isEmpty()) {
+            return null;
+        }
+        for (Job job : chunk) {
+            counters[0]++;
+            Long companyId = job.getCompany().getId();
+            Long fingerprint = job.getContentFingerprint();
+            if (fingerprint == null) {
+                fingerprint = SimHash.fingerprint(job.getTitle(), job.getDescription());
+                jobRepository.updateContentFingerprint(job.getId(), fingerprint);
+                duplicateJobIndex.put(job.getId(), companyId, fingerprint);
+                counters[1]++;
+            }
+            if (job.getDuplicateOfId() == null) {
+                Long original = duplicateJobIndex.findNearDuplicate(companyId, fingerprint, job.getId()).orElse(null);
+                if (original != null && jobRepository.markDuplicate(job.getId(), original) > 0) {
+                    counters[2]++;
+                }
+            }
+        }
+        return chunk.get(chunk.size() - 1).getId();
+    }
+}
@@ -0,0 +1,226 @@
+package com.jobboard.service.intake;
+
+import com.jobboard.exception.DuplicateApplicationException;
+import com.jobboard.exception.IntakeOverloadedException;
+import com.jobboard.model.entity.Application;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group-commits accepted applications. Request threads enqueue into a bounded queue and get a future; one
+ * writer thread drains whatever has accumulated (waiting at most {@code max-delay} for a batch to fill) and
+ * writes it with a single statement that inserts every row, skips pairs that already exist, and bumps the
+ * per-job counters for the rows it actually inserted. Intake cost is therefore one round trip per batch
+ * rather than per application, and a full queue is reported to the caller instead of growing without bound.
+ * When the same pair appears twice in one batch only the first submission gets the inserted row.
+ */
+@Component
+public class ApplicationBatchWriter implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationBatchWriter.class);
+
+    private static final String INSERT_BATCH_SQL = """
+            WITH incoming AS (
+                SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::text[], ?::varchar[], ?::timestamp[])
+                    AS t(job_id, applicant_email, applicant_name, cover_letter, resume_url, applied_at)
+            ), inserted AS (
+                INSERT INTO application
+                    (job_id, applicant_email, applicant_name, cover_letter, resume_url, status, applied_at, version)
+                SELECT job_id, applicant_email, applicant_name, cover_letter, resume_url, 'PENDING', applied_at, 0
+                FROM incoming
+                ON CONFLICT (job_id, applicant_email) DO NOTHING
+                RETURNING id, job_id, applicant_email
+            ), counted AS (
+                INSERT INTO job_application_count (job_id, application_count, updated_at)
+                SELECT job_id, COUNT(*), ? FROM inserted GROUP BY job_id
+                ON CONFLICT (job_id) DO UPDATE
+                    SET application_count = job_application_count.application_count + EXCLUDED.application_count,
+                        updated_at = EXCLUDED.updated_at
+            )
+            SELECT id, job_id, applicant_email FROM inserted""";
+
+    private record Pending(Application application, CompletableFuture<Application> result) {
+    }
+
+    private record InsertedKey(Long jobId, String applicantEmail) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<Pending> queue;
+    private final ExecutorService writer;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+    private volatile boolean running = true;
+
+    public ApplicationBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jobboard.applications.queue-capacity:10000}") int queueCapacity,
+            @Value("${jobboard.applications.batch-size:500}") int batchSize,
+            @Value("${jobboard.applications.max-delay:PT0.005S}") Duration maxDelay,
+            @Value("${jobboard.applications.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("jobboard.applications.batch.size").register(meterRegistry);
+        this.flushTimer = Timer.builder("jobboard.applications.batch.flush").register(meterRegistry);
+        Gauge.builder("jobboard.applications.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        writer.execute(this::drain);
+    }
+
+    /**
+     * Queues an application for the next batch. The future completes with the stored row (id assigned) once
+     * its batch commits, or exceptionally with {@link DuplicateApplicationException} if the pair already
+     * existed.
+     *
+     * @throws IntakeOverloadedException when the queue is full
+     */
+    public CompletableFuture<Application> submit(Application application) {
+        Pending pending = new Pending(application, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new IntakeOverloadedException();
+        }
+        return pending.result();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Application writer did not drain within {}; {} applications not written",
+                    shutdownTimeout, queue.size());
+            writer.shutdownNow();
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize && running) {
+                    Pending next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+        Map<InsertedKey, Long> ids = new HashMap<>(batch.size() * 2);
+        try {
+            flushTimer.record(() -> jdbcTemplate.query(
+                    connection -> prepareInsert(connection, batch, now),
+                    rs -> {
+                        ids.put(new InsertedKey(rs.getLong("job_id"), rs.getString("applicant_email")),
+                                rs.getLong("id"));
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Failed to write batch of {} applications", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        for (Pending pending : batch) {
+            Application application = pending.application();
+            Long id = ids.remove(new InsertedKey(application.getJobId(), application.getApplicantEmail()));
+            if (id == null) {
+                pending.result().completeExceptionally(new DuplicateApplicationException(application.getJobId()));
+            } else {
+                application.setId(id);
+                application.setAppliedAt(now);
+                application.setVersion(0);
+                pending.result().complete(application);
+            }
+        }
+    }
+
+    private static PreparedStatement prepareInsert(Connection connection, List<Pending> batch, LocalDateTime now)
+            throws SQLException {
+        int size = batch.size();
+        Long[] jobIds = new Long[size];
+        String[] emails = new String[size];
+        String[] names = new String[size];
+        String[] coverLetters = new String[size];
+        String[] resumeUrls = new String[size];
+        Timestamp[] appliedAt = new Timestamp[size];
+        Timestamp timestamp = Timestamp.valueOf(now);
+        for (int i = 0; i < size; i++) {
+            Application application = batch.get(i).application();
+            jobIds[i] = application.getJobId();
+            emails[i] = application.getApplicantEmail();
+            names[i] = application.getApplicantName();
+            coverLetters[i] = application.getCoverLetter();
+            resumeUrls[i] = application.getResumeUrl();
+            appliedAt[i] = timestamp;
+        }
+        PreparedStatement statement = connection.prepareStatement(INSERT_BATCH_SQL);
+        statement.setArray(1, connection.createArrayOf("bigint", jobIds));
+        statement.setArray(2, connection.createArrayOf("varchar", emails));
+        statement.setArray(3, connection.createArrayOf("varchar", names));
+        statement.setArray(4, connection.createArrayOf("text", coverLetters));
+        statement.setArray(5, connection.createArrayOf("varchar", resumeUrls));
+        statement.setArray(6, connection.createArrayOf("timestamp", appliedAt));
+        statement.setTimestamp(7, timestamp);
+        return statement;
+    }
+}
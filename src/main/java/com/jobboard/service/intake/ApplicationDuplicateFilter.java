@@ -0,0 +1,116 @@
+package com.jobboard.service.intake;
+
+import com.jobboard.repository.ApplicationKeyView;
+import com.jobboard.repository.ApplicationRepository;
+import com.jobboard.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Front check for "one application per applicant per job". A Bloom filter over every stored (job, applicant)
+ * pair answers "definitely new" for the common case without a query; only probable hits, and everything until
+ * the filter has been loaded, fall back to an indexed existence check. Applications still waiting in the
+ * intake queue are held in an in-flight set so concurrent submissions of the same pair cannot both pass.
+ * The table's unique constraint remains the final word.
+ */
+@Component
+public class ApplicationDuplicateFilter implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationDuplicateFilter.class);
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    public record Key(Long jobId, String applicantEmail) {
+
+        long hash() {
+            long hash = 0xcbf29ce484222325L ^ jobId;
+            for (int i = 0; i < applicantEmail.length(); i++) {
+                hash ^= applicantEmail.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+            hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+            return hash ^ (hash >>> 31);
+        }
+    }
+
+    private final ApplicationRepository applicationRepository;
+    private final BloomFilter stored;
+    private final Set<Key> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter filterMisses;
+    private final Counter databaseMisses;
+    private final Counter duplicates;
+    private volatile boolean loaded;
+
+    public ApplicationDuplicateFilter(
+            ApplicationRepository applicationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jobboard.applications.bloom.expected-insertions:10000000}") long expectedInsertions,
+            @Value("${jobboard.applications.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.applicationRepository = applicationRepository;
+        this.stored = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.filterMisses = meterRegistry.counter("jobboard.applications.duplicate-check", "result", "filter-new");
+        this.databaseMisses = meterRegistry.counter("jobboard.applications.duplicate-check", "result", "db-new");
+        this.duplicates = meterRegistry.counter("jobboard.applications.duplicate-check", "result", "duplicate");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0;
+        long count = 0;
+        while (true) {
+            List<ApplicationKeyView> chunk =
+                    applicationRepository.findNextKeyChunk(afterId, PageRequest.ofSize(LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (ApplicationKeyView view : chunk) {
+                stored.put(new Key(view.getJobId(), view.getApplicantEmail()).hash());
+            }
+            count += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        loaded = true;
+        log.info("Loaded {} application keys into the duplicate filter", count);
+    }
+
+    /**
+     * Claims the pair for a new application. Returns false when it is already stored or already in flight;
+     * on true the caller must eventually call {@link #release}.
+     */
+    public boolean tryReserve(Key key) {
+        if (!inFlight.add(key)) {
+            duplicates.increment();
+            return false;
+        }
+        if (loaded && !stored.mightContain(key.hash())) {
+            filterMisses.increment();
+            return true;
+        }
+        if (applicationRepository.existsByJobIdAndApplicantEmail(key.jobId(), key.applicantEmail())) {
+            stored.put(key.hash());
+            inFlight.remove(key);
+            duplicates.increment();
+            return false;
+        }
+        databaseMisses.increment();
+        return true;
+    }
+
+    /** Ends a reservation; {@code stored} is whether a row for the pair now exists. */
+    public void release(Key key, boolean stored) {
+        if (stored) {
+            this.stored.put(key.hash());
+        }
+        inFlight.remove(key);
+    }
+}
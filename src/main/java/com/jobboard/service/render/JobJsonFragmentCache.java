@@ -0,0 +1,121 @@
+package com.jobboard.service.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.Job;
+import com.jobboard.service.catalog.CompanySummaryCache;
+import com.jobboard.util.JobMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-rendered list JSON ({@code JobDTO} shape) per job. A fragment is only reused when both the job version
+ * and its company's version (as held by {@link CompanySummaryCache}) still match, so a stale fragment is never
+ * served; the change callbacks only free memory early.
+ */
+@Component
+public class JobJsonFragmentCache implements ChangeSubscriber {
+
+    private final JobMapper jobMapper;
+    private final CompanySummaryCache companySummaryCache;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Counter hits;
+    private final Counter misses;
+
+    public JobJsonFragmentCache(
+            JobMapper jobMapper,
+            CompanySummaryCache companySummaryCache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${jobboard.render.max-cached-jobs:50000}") int maxEntries) {
+        this.jobMapper = jobMapper;
+        this.companySummaryCache = companySummaryCache;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("jobboard.render.fragments", "result", "hit");
+        this.misses = meterRegistry.counter("jobboard.render.fragments", "result", "miss");
+        Gauge.builder("jobboard.render.fragments.size", entries, ConcurrentMap::size).register(meterRegistry);
+    }
+
+    public JsonFragment render(Job job) {
+        Long companyId = job.getCompany().getId();
+        CompanySummaryCache.Entry company = companySummaryCache.get(companyId);
+        Integer companyVersion = company != null ? company.version() : null;
+        Entry entry = entries.get(job.getId());
+        if (entry != null && Objects.equals(entry.version, job.getVersion())
+                && Objects.equals(entry.companyVersion, companyVersion)) {
+            hits.increment();
+            return entry.fragment;
+        }
+        misses.increment();
+        JsonFragment fragment = new JsonFragment(serialize(job));
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(job.getId(), new Entry(job.getVersion(), companyId, companyVersion, fragment));
+        return fragment;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.type().removesJob()) {
+            entries.remove(event.jobId());
+        } else {
+            entries.computeIfPresent(event.jobId(),
+                    (id, entry) -> Objects.equals(entry.version, event.version()) ? entry : null);
+        }
+    }
+
+    @Override
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (event.type() != ChangeType.CREATED) {
+            entries.values().removeIf(entry -> event.companyId().equals(entry.companyId));
+        }
+    }
+
+    private String serialize(Job job) {
+        try {
+            return objectMapper.writeValueAsString(jobMapper.toDTO(job));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not render job " + job.getId(), ex);
+        }
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxEntries - maxEntries / 10;
+            Iterator<Long> ids = entries.keySet().iterator();
+            while (entries.size() > target && ids.hasNext()) {
+                ids.next();
+                ids.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Entry(Integer version, Long companyId, Integer companyVersion, JsonFragment fragment) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobboard.service.render;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+
+/**
+ * A value that is already rendered JSON. Jackson copies its UTF-8 bytes straight into the output, so a list of
+ * fragments is written without re-serializing each element.
+ */
+public final class JsonFragment implements JsonSerializable {
+
+    private final SerializedString json;
+
+    JsonFragment(String json) {
+        this.json = new SerializedString(json);
+        this.json.asUnquotedUTF8();
+    }
+
+    public int byteLength() {
+        return json.asUnquotedUTF8().length;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(generator, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json.getValue();
+    }
+}
@@ -0,0 +1,136 @@
+package com.jobboard.service.resume;
+
+import com.jobboard.exception.InvalidResumeException;
+import com.jobboard.exception.ResumeTooLargeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Content-addressed resume files. Uploads are streamed through a fixed buffer into a temp file while being
+ * hashed, size-checked and type-sniffed, so heap use per upload is constant whatever the file size. The
+ * finished file is renamed to {@code <sha256[0..2]>/<sha256>.<ext>}; an identical file that is already stored
+ * is kept and the new copy discarded.
+ */
+@Component
+public class ResumeStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern ID = Pattern.compile("[0-9a-f]{64}");
+
+    public record StoredResume(String id, ResumeType type, long size, Path file, boolean deduplicated) {
+    }
+
+    private final Path directory;
+    private final Path tempDirectory;
+    private final long maxBytes;
+
+    public ResumeStorage(
+            @Value("${jobboard.resumes.directory:./data/resumes}") String directory,
+            @Value("${jobboard.resumes.max-size:5MB}") DataSize maxSize) {
+        this.directory = Paths.get(directory);
+        this.tempDirectory = this.directory.resolve("tmp");
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @param declaredLength the length announced by the client, or -1 when unknown; rejected up front when it
+     *                       already exceeds the limit
+     */
+    public StoredResume store(InputStream in, long declaredLength) throws IOException {
+        if (declaredLength > maxBytes) {
+            throw new ResumeTooLargeException(maxBytes);
+        }
+        Files.createDirectories(tempDirectory);
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+        ResumeType type;
+        long size;
+        MessageDigest digest = sha256();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int head = in.readNBytes(buffer, 0, ResumeType.SNIFF_LENGTH);
+            type = ResumeType.sniff(buffer, head)
+                    .orElseThrow(() -> new InvalidResumeException("Only PDF, DOC and DOCX resumes are accepted"));
+            size = head;
+            write(out, digest, buffer, head);
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxBytes) {
+                    throw new ResumeTooLargeException(maxBytes);
+                }
+                write(out, digest, buffer, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String id = HexFormat.of().formatHex(digest.digest());
+        Path target = pathFor(id, type);
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            Files.delete(temp);
+            return new StoredResume(id, type, size, target, true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.delete(temp);
+            return new StoredResume(id, type, size, target, true);
+        }
+        return new StoredResume(id, type, size, target, false);
+    }
+
+    public Optional<StoredResume> find(String id) throws IOException {
+        if (id == null || !ID.matcher(id).matches()) {
+            return Optional.empty();
+        }
+        for (ResumeType type : ResumeType.values()) {
+            Path file = pathFor(id, type);
+            if (Files.isRegularFile(file)) {
+                return Optional.of(new StoredResume(id, type, Files.size(file), file, false));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Path pathFor(String id, ResumeType type) {
+        return directory.resolve(id.substring(0, 2)).resolve(id + "." + type.extension());
+    }
+
+    private static void write(FileChannel out, MessageDigest digest, byte[] buffer, int length) throws IOException {
+        digest.update(buffer, 0, length);
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, length);
+        while (chunk.hasRemaining()) {
+            out.write(chunk);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobboard.service.resume;
+
+import java.util.Optional;
+
+/** Accepted resume formats, recognised by their leading bytes rather than by the client's declared type. */
+public enum ResumeType {
+
+    PDF("application/pdf", "pdf", new byte[] {'%', 'P', 'D', 'F', '-'}),
+    DOC("application/msword", "doc",
+            new byte[] {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1}),
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx",
+            new byte[] {'P', 'K', 0x03, 0x04});
+
+    /** Bytes that must be buffered before the type can be decided. */
+    public static final int SNIFF_LENGTH = 8;
+
+    private final String mediaType;
+    private final String extension;
+    private final byte[] magic;
+
+    ResumeType(String mediaType, String extension, byte[] magic) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+        this.magic = magic;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static Optional<ResumeType> sniff(byte[] head, int length) {
+        for (ResumeType type : values()) {
+            if (length >= type.magic.length && startsWith(head, type.magic)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] head, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (head[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
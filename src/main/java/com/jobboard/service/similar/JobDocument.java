@@ -0,0 +1,38 @@
+package com.jobboard.service.similar;
+
+import com.jobboard.model.dto.JobDetailDTO;
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.Job;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import java.time.LocalDateTime;
+
+/** The parts of a job that feed its similarity vector. */
+record JobDocument(
+        Long id,
+        Integer version,
+        Long companyId,
+        String title,
+        String description,
+        JobType jobType,
+        ExperienceLevel experienceLevel,
+        RemoteOption remoteOption,
+        boolean live) {
+
+    static JobDocument of(Job job, LocalDateTime now) {
+        return new JobDocument(job.getId(), job.getVersion(), job.getCompany().getId(), job.getTitle(),
+                job.getDescription(), job.getJobType(), job.getExperienceLevel(),
+                job.getRemoteOption(), isLive(job.getIsActive(), job.getExpiryDate(), now));
+    }
+
+    static JobDocument of(JobDetailDTO job, Integer version, LocalDateTime now) {
+        Long companyId = job.getCompany() != null ? job.getCompany().getId() : null;
+        return new JobDocument(job.getId(), version, companyId, job.getTitle(),
+                job.getDescription(), job.getJobType(), job.getExperienceLevel(),
+                job.getRemoteOption(), isLive(job.getIsActive(), job.getExpiryDate(), now));
+    }
+
+    private static boolean isLive(Boolean isActive, LocalDateTime expiryDate, LocalDateTime now) {
+        return Boolean.TRUE.equals(isActive) && (expiryDate == null || expiryDate.isAfter(now));
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobboard.service.similar;
+
+import com.jobboard.util.TextTokenizer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Hashed TF-IDF over title and description words, with the job type, experience level and remote option
+ * appended as fixed-weight categorical features. The text part is normalised on its own first so the
+ * categorical weight means the same thing for a two-line posting as for a two-page one.
+ */
+final class JobVectorizer {
+
+    static final int FEATURE_BITS = 20;
+    static final int FEATURES = 1 << FEATURE_BITS;
+
+    private static final float TITLE_WEIGHT = 2f;
+
+    private final float categoryWeight;
+
+    JobVectorizer(float categoryWeight) {
+        this.categoryWeight = categoryWeight;
+    }
+
+    /** Raw term frequencies keyed by hashed feature; title words count double. */
+    Map<Integer, Float> termFrequencies(JobDocument document) {
+        Map<Integer, Float> frequencies = new HashMap<>();
+        for (String token : TextTokenizer.tokens(document.title())) {
+            frequencies.merge(feature(token), TITLE_WEIGHT, Float::sum);
+        }
+        for (String token : TextTokenizer.tokens(document.description())) {
+            frequencies.merge(feature(token), 1f, Float::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * @param documentFrequency number of indexed documents containing a feature
+     * @param documents         number of indexed documents
+     */
+    SparseVector vectorize(JobDocument document, Map<Integer, Float> termFrequencies,
+            IntUnaryOperator documentFrequency, int documents) {
+        Map<Integer, Float> weights = new HashMap<>(termFrequencies.size() + 3);
+        double norm = 0;
+        for (Map.Entry<Integer, Float> entry : termFrequencies.entrySet()) {
+            double idf = Math.log((documents + 1.0) / (documentFrequency.applyAsInt(entry.getKey()) + 1.0)) + 1;
+            float weight = (float) ((1 + Math.log(entry.getValue())) * idf);
+            weights.put(entry.getKey(), weight);
+            norm += (double) weight * weight;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            weights.replaceAll((feature, weight) -> weight * scale);
+        }
+        if (categoryWeight > 0) {
+            if (document.jobType() != null) {
+                weights.merge(feature("type:" + document.jobType()), categoryWeight, Float::sum);
+            }
+            if (document.experienceLevel() != null) {
+                weights.merge(feature("level:" + document.experienceLevel()), categoryWeight, Float::sum);
+            }
+            if (document.remoteOption() != null) {
+                weights.merge(feature("remote:" + document.remoteOption()), categoryWeight, Float::sum);
+            }
+        }
+        return SparseVector.normalized(weights);
+    }
+
+    static int feature(String value) {
+        return (value.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - FEATURE_BITS);
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobboard.service.similar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/** Immutable nearest-neighbour list, best match first. */
+record NeighborList(long[] ids, float[] scores) {
+
+    static final NeighborList EMPTY = new NeighborList(new long[0], new float[0]);
+
+    static NeighborList top(Map<Long, Float> scores, int limit) {
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Float>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        int size = Math.min(limit, ranked.size());
+        long[] ids = new long[size];
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = ranked.get(i).getKey();
+            values[i] = ranked.get(i).getValue();
+        }
+        return new NeighborList(ids, values);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean contains(long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether a neighbour with this score would make it into a list capped at {@code limit}. */
+    boolean accepts(float score, int limit) {
+        return ids.length < limit || score > scores[ids.length - 1];
+    }
+
+    NeighborList with(long id, float score, int limit) {
+        NeighborList base = contains(id) ? without(id) : this;
+        int position = 0;
+        while (position < base.ids.length && base.scores[position] >= score) {
+            position++;
+        }
+        if (position >= limit) {
+            return base;
+        }
+        int size = Math.min(limit, base.ids.length + 1);
+        long[] ids = new long[size];
+        float[] values = new float[size];
+        System.arraycopy(base.ids, 0, ids, 0, position);
+        System.arraycopy(base.scores, 0, values, 0, position);
+        ids[position] = id;
+        values[position] = score;
+        System.arraycopy(base.ids, position, ids, position + 1, size - position - 1);
+        System.arraycopy(base.scores, position, values, position + 1, size - position - 1);
+        return new NeighborList(ids, values);
+    }
+
+    NeighborList without(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                long[] ids = new long[this.ids.length - 1];
+                float[] values = new float[ids.length];
+                System.arraycopy(this.ids, 0, ids, 0, i);
+                System.arraycopy(this.ids, i + 1, ids, i, ids.length - i);
+                System.arraycopy(scores, 0, values, 0, i);
+                System.arraycopy(scores, i + 1, values, i, values.length - i);
+                return new NeighborList(ids, values);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NeighborList list
+                && Arrays.equals(ids, list.ids) && Arrays.equals(scores, list.scores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids) * 31 + Arrays.hashCode(scores);
+    }
+}
@@ -0,0 +1,402 @@
+package com.jobboard.service.similar;
+
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.Job;
+import com.jobboard.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Precomputed top-k "similar jobs" per live posting. Candidates come from an inverted index over each job's
+ * highest-weighted terms, so scoring a job touches only postings that share a distinctive word with it.
+ * Committed job changes are applied incrementally: the changed job gets a fresh list and is offered to each
+ * candidate's list, and jobs that lose a neighbour are recomputed. A full rebuild, fanned out over a
+ * fork/join pool, runs at startup and on a schedule to pick up IDF drift and expiries.
+ *
+ * <p>All mutation happens on the single {@code similarJobsExecutor} thread; request threads only read the
+ * immutable neighbour lists.
+ */
+@Component
+public class SimilarJobIndex implements ApplicationRunner, ChangeSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarJobIndex.class);
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int FORK_THRESHOLD = 256;
+    /** Fields {@link JobDocument} is built from; updates that change none of them leave the index as it is. */
+    private static final Set<String> INDEXED_FIELDS = Set.of("title", "description", "companyId", "jobType",
+            "experienceLevel", "remoteOption", "isActive", "expiryDate");
+
+    private record Indexed(Integer version, Long companyId, int[] terms, SparseVector vector) {
+    }
+
+    /** Vectors and inverted index; owned by the executor thread, read-only while a rebuild fans out. */
+    private static final class Corpus {
+        final Map<Long, Indexed> documents = new HashMap<>();
+        final Map<Integer, Set<Long>> postings = new HashMap<>();
+        final Map<Long, Set<Long>> referrers = new HashMap<>();
+        final int[] documentFrequency = new int[JobVectorizer.FEATURES];
+
+        void addTerms(Long id, int[] terms) {
+            for (int term : terms) {
+                documentFrequency[term]++;
+                postings.computeIfAbsent(term, key -> new HashSet<>()).add(id);
+            }
+        }
+
+        Indexed remove(Long id) {
+            Indexed previous = documents.remove(id);
+            if (previous != null) {
+                for (int term : previous.terms()) {
+                    documentFrequency[term]--;
+                    Set<Long> posting = postings.get(term);
+                    if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            return previous;
+        }
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= FORK_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    body.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, body), new RangeTask(middle, to, body));
+        }
+    }
+
+    private final JobRepository jobRepository;
+    private final Executor similarJobsExecutor;
+    private final JobVectorizer vectorizer;
+    private final int neighbors;
+    private final float minScore;
+    private final int probeTerms;
+    private final int maxPostingSize;
+    private final ForkJoinPool rebuildPool;
+    private final ConcurrentMap<Long, NeighborList> neighborLists = new ConcurrentHashMap<>();
+    private Corpus corpus = new Corpus();
+
+    public SimilarJobIndex(
+            JobRepository jobRepository,
+            @Qualifier("similarJobsExecutor") Executor similarJobsExecutor,
+            @Value("${jobboard.similar.neighbors:10}") int neighbors,
+            @Value("${jobboard.similar.min-score:0.1}") float minScore,
+            @Value("${jobboard.similar.category-weight:0.3}") float categoryWeight,
+            @Value("${jobboard.similar.probe-terms:32}") int probeTerms,
+            @Value("${jobboard.similar.max-posting-size:20000}") int maxPostingSize,
+            @Value("${jobboard.similar.parallelism:0}") int parallelism) {
+        this.jobRepository = jobRepository;
+        this.similarJobsExecutor = similarJobsExecutor;
+        this.vectorizer = new JobVectorizer(categoryWeight);
+        this.neighbors = Math.max(1, neighbors);
+        this.minScore = minScore;
+        this.probeTerms = Math.max(1, probeTerms);
+        this.maxPostingSize = maxPostingSize;
+        this.rebuildPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        submit(this::rebuild);
+    }
+
+    @Scheduled(cron = "${jobboard.similar.rebuild-cron:0 30 4 * * *}")
+    public void scheduledRebuild() {
+        submit(this::rebuild);
+    }
+
+    /** Ids of the most similar live jobs, best first; empty when the job is unknown or not live. */
+    public List<Long> neighbors(Long jobId) {
+        NeighborList list = neighborLists.get(jobId);
+        if (list == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(list.size());
+        for (long id : list.ids()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Override
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.touches(INDEXED_FIELDS)) {
+            return;
+        }
+        if (event.type().removesJob()) {
+            submit(() -> remove(List.of(event.jobId())));
+        } else {
+            JobDocument document = JobDocument.of(event.job(), event.version(), LocalDateTime.now());
+            submit(() -> apply(document));
+        }
+    }
+
+    @Override
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            submit(() -> removeCompany(event.companyId()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildPool.shutdownNow();
+    }
+
+    void rebuild() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<JobDocument> documents = new ArrayList<>();
+        List<Map<Integer, Float>> frequencies = new ArrayList<>();
+        Corpus next = new Corpus();
+        long afterId = 0;
+        while (true) {
+            List<Job> chunk = jobRepository.findNextChunk(afterId, PageRequest.ofSize(LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (Job job : chunk) {
+                JobDocument document = JobDocument.of(job, now);
+                if (document.live()) {
+                    Map<Integer, Float> termFrequencies = vectorizer.termFrequencies(document);
+                    documents.add(document);
+                    frequencies.add(termFrequencies);
+                    next.addTerms(document.id(), terms(termFrequencies));
+                }
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        int size = documents.size();
+        Indexed[] indexed = new Indexed[size];
+        rebuildPool.invoke(new RangeTask(0, size, i -> {
+            JobDocument document = documents.get(i);
+            Map<Integer, Float> termFrequencies = frequencies.get(i);
+            SparseVector vector = vectorizer.vectorize(document, termFrequencies,
+                    term -> next.documentFrequency[term], size);
+            indexed[i] = new Indexed(document.version(), document.companyId(), terms(termFrequencies), vector);
+        }));
+        for (int i = 0; i < size; i++) {
+            next.documents.put(documents.get(i).id(), indexed[i]);
+        }
+
+        NeighborList[] lists = new NeighborList[size];
+        rebuildPool.invoke(new RangeTask(0, size, i ->
+                lists[i] = NeighborList.top(score(next, documents.get(i).id(), indexed[i]), neighbors)));
+
+        corpus = next;
+        Set<Long> live = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Long id = documents.get(i).id();
+            live.add(id);
+            setNeighbors(id, lists[i]);
+        }
+        neighborLists.keySet().retainAll(live);
+        log.info("Rebuilt similar-job lists for {} live jobs in {} ms",
+                size, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    void apply(JobDocument document) {
+        Indexed current = corpus.documents.get(document.id());
+        if (current != null && current.version() != null && document.version() != null
+                && document.version() < current.version()) {
+            return;
+        }
+        Set<Long> orphaned = detach(document.id());
+        if (document.live()) {
+            Map<Integer, Float> termFrequencies = vectorizer.termFrequencies(document);
+            int[] terms = terms(termFrequencies);
+            corpus.addTerms(document.id(), terms);
+            SparseVector vector = vectorizer.vectorize(document, termFrequencies,
+                    term -> corpus.documentFrequency[term], corpus.documents.size() + 1);
+            Indexed indexed = new Indexed(document.version(), document.companyId(), terms, vector);
+            corpus.documents.put(document.id(), indexed);
+
+            Map<Long, Float> scores = score(corpus, document.id(), indexed);
+            setNeighbors(document.id(), NeighborList.top(scores, neighbors));
+            scores.forEach((candidate, score) -> {
+                NeighborList list = neighborLists.getOrDefault(candidate, NeighborList.EMPTY);
+                if (list.accepts(score, neighbors)) {
+                    setNeighbors(candidate, list.with(document.id(), score, neighbors));
+                }
+            });
+        }
+        refill(orphaned);
+    }
+
+    void remove(Collection<Long> jobIds) {
+        Set<Long> orphaned = new HashSet<>();
+        for (Long jobId : jobIds) {
+            orphaned.addAll(detach(jobId));
+        }
+        orphaned.removeAll(jobIds);
+        refill(orphaned);
+    }
+
+    private void removeCompany(Long companyId) {
+        List<Long> jobIds = new ArrayList<>();
+        corpus.documents.forEach((id, indexed) -> {
+            if (companyId.equals(indexed.companyId())) {
+                jobIds.add(id);
+            }
+        });
+        remove(jobIds);
+    }
+
+    /** Drops a job from the corpus and from every list it appears in; returns the jobs that lost it. */
+    private Set<Long> detach(Long jobId) {
+        corpus.remove(jobId);
+        NeighborList own = neighborLists.remove(jobId);
+        if (own != null) {
+            for (long neighbor : own.ids()) {
+                Set<Long> referrers = corpus.referrers.get(neighbor);
+                if (referrers != null) {
+                    referrers.remove(jobId);
+                }
+            }
+        }
+        Set<Long> referrers = corpus.referrers.remove(jobId);
+        if (referrers == null) {
+            return Set.of();
+        }
+        for (Long referrer : referrers) {
+            neighborLists.computeIfPresent(referrer, (id, list) -> list.without(jobId));
+        }
+        return referrers;
+    }
+
+    /** Recomputes lists that dropped below k, unless re-offering the changed job already filled them. */
+    private void refill(Set<Long> jobIds) {
+        for (Long jobId : jobIds) {
+            Indexed indexed = corpus.documents.get(jobId);
+            NeighborList list = neighborLists.get(jobId);
+            if (indexed != null && (list == null || list.size() < neighbors)) {
+                setNeighbors(jobId, NeighborList.top(score(corpus, jobId, indexed), neighbors));
+            }
+        }
+    }
+
+    private void setNeighbors(Long jobId, NeighborList next) {
+        NeighborList previous = neighborLists.put(jobId, next);
+        if (previous != null) {
+            for (long neighbor : previous.ids()) {
+                if (!next.contains(neighbor)) {
+                    Set<Long> referrers = corpus.referrers.get(neighbor);
+                    if (referrers != null) {
+                        referrers.remove(jobId);
+                    }
+                }
+            }
+        }
+        for (long neighbor : next.ids()) {
+            corpus.referrers.computeIfAbsent(neighbor, key -> new HashSet<>()).add(jobId);
+        }
+    }
+
+    /**
+     * Cosine scores, at or above the minimum, against jobs sharing one of this job's highest-weighted terms.
+     * Terms so common that their posting exceeds the cap are skipped for candidate generation; they still
+     * count towards the score of candidates found through rarer terms.
+     */
+    private Map<Long, Float> score(Corpus source, Long jobId, Indexed indexed) {
+        Map<Long, Float> scores = new HashMap<>();
+        if (indexed.vector().isEmpty()) {
+            return scores;
+        }
+        int[] probes = indexed.terms().clone();
+        if (probes.length > probeTerms) {
+            SparseVector vector = indexed.vector();
+            probes = Arrays.stream(probes).boxed()
+                    .sorted(Comparator.comparingDouble((Integer term) -> vector.get(term)).reversed())
+                    .limit(probeTerms)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        Set<Long> seen = new HashSet<>();
+        seen.add(jobId);
+        for (int term : probes) {
+            Set<Long> posting = source.postings.get(term);
+            if (posting == null || posting.size() > maxPostingSize) {
+                continue;
+            }
+            for (Long candidate : posting) {
+                if (!seen.add(candidate)) {
+                    continue;
+                }
+                Indexed other = source.documents.get(candidate);
+                if (other == null) {
+                    continue;
+                }
+                float score = indexed.vector().dot(other.vector());
+                if (score >= minScore) {
+                    scores.put(candidate, score);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static int[] terms(Map<Integer, Float> termFrequencies) {
+        return termFrequencies.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            similarJobsExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Similar-job index update failed", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Similar-job update queue full; change will be picked up by the next rebuild");
+        }
+    }
+}
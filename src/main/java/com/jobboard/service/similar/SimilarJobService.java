@@ -0,0 +1,45 @@
+package com.jobboard.service.similar;
+
+import com.jobboard.exception.JobNotFoundException;
+import com.jobboard.model.dto.JobDTO;
+import com.jobboard.service.catalog.JobCatalog;
+import com.jobboard.service.catalog.JobCatalogEntry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves "similar jobs" straight from the precomputed neighbour lists, resolving ids against the in-memory
+ * catalog so the request never touches the database.
+ */
+@Service
+public class SimilarJobService {
+
+    private final SimilarJobIndex similarJobIndex;
+    private final JobCatalog jobCatalog;
+
+    public SimilarJobService(SimilarJobIndex similarJobIndex, JobCatalog jobCatalog) {
+        this.similarJobIndex = similarJobIndex;
+        this.jobCatalog = jobCatalog;
+    }
+
+    public List<JobDTO> getSimilarJobs(Long id, int limit) {
+        if (jobCatalog.get(id).isEmpty()) {
+            throw new JobNotFoundException(id);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<JobDTO> jobs = new ArrayList<>(limit);
+        for (Long neighborId : similarJobIndex.neighbors(id)) {
+            Optional<JobCatalogEntry> entry = jobCatalog.get(neighborId);
+            if (entry.isPresent() && entry.get().isLive(now)) {
+                jobs.add(entry.get().toDTO());
+                if (jobs.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobboard.service.similar;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/** Immutable, L2-normalised sparse vector over hashed feature indices; indices are sorted ascending. */
+final class SparseVector {
+
+    static final SparseVector EMPTY = new SparseVector(new int[0], new float[0]);
+
+    private final int[] indices;
+    private final float[] values;
+
+    private SparseVector(int[] indices, float[] values) {
+        this.indices = indices;
+        this.values = values;
+    }
+
+    static SparseVector normalized(Map<Integer, Float> weights) {
+        int[] indices = new int[weights.size()];
+        int n = 0;
+        for (Map.Entry<Integer, Float> entry : weights.entrySet()) {
+            if (entry.getValue() > 0) {
+                indices[n++] = entry.getKey();
+            }
+        }
+        if (n == 0) {
+            return EMPTY;
+        }
+        indices = Arrays.copyOf(indices, n);
+        Arrays.sort(indices);
+        float[] values = new float[n];
+        double norm = 0;
+        for (int i = 0; i < n; i++) {
+            values[i] = weights.get(indices[i]);
+            norm += (double) values[i] * values[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < n; i++) {
+            values[i] *= scale;
+        }
+        return new SparseVector(indices, values);
+    }
+
+    float get(int index) {
+        int position = Arrays.binarySearch(indices, index);
+        return position >= 0 ? values[position] : 0f;
+    }
+
+    /** Cosine similarity, since both vectors are unit length. */
+    float dot(SparseVector other) {
+        float sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < indices.length && j < other.indices.length) {
+            int a = indices[i];
+            int b = other.indices[j];
+            if (a == b) {
+                sum += values[i++] * other.values[j++];
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    boolean isEmpty() {
+        return indices.length == 0;
+    }
+}
@@ -0,0 +1,209 @@
+package com.jobboard.service.stream;
+
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.dto.JobDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.util.JobMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Single publisher for the job event stream. Committed job changes are appended to a bounded replay buffer and
+ * offered to each subscriber's own bounded buffer; a small pool of sender threads drains subscribers, so the
+ * committing thread never writes to a socket. The replay buffer is kept in delivery order, which is not seq
+ * order, so a reconnecting client is replayed everything delivered after its {@code Last-Event-ID}. Removals
+ * read back from the change feed carry no job state and are sent to every subscriber as an id-only event.
+ *
+ * <p>A client that reads too slowly overflows its buffer and is sent a {@code reset}; one whose single send has
+ * blocked for {@code send-timeout} is dropped and its sender thread interrupted, so a few dead connections
+ * cannot hold every sender thread.
+ */
+@Service
+public class JobStreamBroadcaster implements ChangeSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(JobStreamBroadcaster.class);
+
+    private final JobMapper jobMapper;
+    private final int maxSubscribers;
+    private final int subscriberBufferSize;
+    private final int replayBufferSize;
+    private final Duration emitterTimeout;
+    private final long sendTimeoutNanos;
+    private final Set<JobStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<JobStreamEvent> replay = new ArrayDeque<>();
+    private final ExecutorService senders;
+
+    public JobStreamBroadcaster(
+            JobMapper jobMapper,
+            @Value("${jobboard.stream.max-subscribers:5000}") int maxSubscribers,
+            @Value("${jobboard.stream.subscriber-buffer-size:256}") int subscriberBufferSize,
+            @Value("${jobboard.stream.replay-buffer-size:1000}") int replayBufferSize,
+            @Value("${jobboard.stream.emitter-timeout:PT30M}") Duration emitterTimeout,
+            @Value("${jobboard.stream.send-timeout:PT5S}") Duration sendTimeout,
+            @Value("${jobboard.stream.sender-threads:4}") int senderThreads) {
+        this.jobMapper = jobMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.replayBufferSize = replayBufferSize;
+        this.emitterTimeout = emitterTimeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "job-stream-sender-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Returns empty when the subscriber limit has been reached. */
+    public Optional<SseEmitter> subscribe(JobStreamFilter filter, Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        JobStreamSubscriber subscriber = new JobStreamSubscriber(emitter, filter, subscriberBufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(ex -> remove(subscriber));
+
+        synchronized (replay) {
+            if (lastEventId != null) {
+                boolean found = false;
+                for (JobStreamEvent event : replay) {
+                    if (found) {
+                        subscriber.offer(event);
+                    } else {
+                        found = event.id() == lastEventId;
+                    }
+                }
+                if (!found) {
+                    subscriber.markGap(lastEventId);
+                    replay.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.markHeartbeatDue();
+        schedule(subscriber);
+        return Optional.of(emitter);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.seq() == null || (event.job() == null && !event.type().removesJob())) {
+            return;
+        }
+        JobDTO job = event.job() == null ? null : jobMapper.toDTO(event.job());
+        JobStreamEvent streamEvent =
+                new JobStreamEvent(event.seq(), eventName(event), event.jobId(), event.version(), job);
+        synchronized (replay) {
+            replay.addLast(streamEvent);
+            while (replay.size() > replayBufferSize) {
+                replay.removeFirst();
+            }
+            for (JobStreamSubscriber subscriber : subscribers) {
+                if (subscriber.offer(streamEvent)) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${jobboard.stream.heartbeat-interval:PT15S}",
+            fixedRateString = "${jobboard.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        for (JobStreamSubscriber subscriber : subscribers) {
+            subscriber.markHeartbeatDue();
+            schedule(subscriber);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${jobboard.stream.send-timeout:PT5S}",
+            fixedDelayString = "${jobboard.stream.send-timeout:PT5S}")
+    public void dropStuckSubscribers() {
+        long now = System.nanoTime();
+        for (JobStreamSubscriber subscriber : subscribers) {
+            if (subscriber.abortIfStuck(now, sendTimeoutNanos)) {
+                log.debug("Dropping job stream subscriber blocked in send for {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                remove(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    private void schedule(JobStreamSubscriber subscriber) {
+        if (!subscriber.trySchedule()) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException ex) {
+            remove(subscriber);
+        }
+    }
+
+    private void drain(JobStreamSubscriber subscriber) {
+        try {
+            subscriber.drain();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping job stream subscriber: {}", ex.getMessage());
+            remove(subscriber);
+            return;
+        }
+        if (!subscriber.isClosed() && subscriber.hasPendingWork()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void remove(JobStreamSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    private static String eventName(JobChangedEvent event) {
+        if (event.type() == ChangeType.CREATED) {
+            return JobStreamEvent.CREATED;
+        }
+        if (event.type() == ChangeType.DELETED) {
+            return JobStreamEvent.DELETED;
+        }
+        if (event.type() == ChangeType.ARCHIVED) {
+            return JobStreamEvent.ARCHIVED;
+        }
+        return Boolean.FALSE.equals(event.job().getIsActive()) ? JobStreamEvent.DEACTIVATED : JobStreamEvent.UPDATED;
+    }
+}
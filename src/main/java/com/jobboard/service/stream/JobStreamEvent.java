@@ -0,0 +1,17 @@
+package com.jobboard.service.stream;
+
+import com.jobboard.model.dto.JobDTO;
+
+/**
+ * A job event as pushed to stream subscribers. {@code id} is the job_change sequence number and doubles as the
+ * SSE event id clients send back in {@code Last-Event-ID}; {@code version} is the job version it carries.
+ * {@code job} is null for a removal read back from the change feed, which only knows the job's id.
+ */
+public record JobStreamEvent(long id, String name, Long jobId, Integer version, JobDTO job) {
+
+    public static final String CREATED = "job-created";
+    public static final String UPDATED = "job-updated";
+    public static final String DEACTIVATED = "job-deactivated";
+    public static final String DELETED = "job-deleted";
+    public static final String ARCHIVED = "job-archived";
+}
@@ -0,0 +1,22 @@
+package com.jobboard.service.stream;
+
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+
+public record JobStreamFilter(JobType jobType, RemoteOption remoteOption, Long companyId) {
+
+    /** A removal without the job's state matches every filter; clients ignore ids they were never sent. */
+    public boolean matches(JobStreamEvent event) {
+        if (event.job() == null) {
+            return true;
+        }
+        if (jobType != null && jobType != event.job().getJobType()) {
+            return false;
+        }
+        if (remoteOption != null && remoteOption != event.job().getRemoteOption()) {
+            return false;
+        }
+        return companyId == null
+                || (event.job().getCompany() != null && companyId.equals(event.job().getCompany().getId()));
+    }
+}
@@ -0,0 +1,215 @@
+package com.jobboard.service.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One SSE connection with its own bounded buffer. Pending events for the same job are coalesced so only the
+ * newest is sent, and an event for a job version the client has already been sent is skipped. Events are never
+ * filtered by id: job_change sequence numbers are assigned at insert, not in commit order, so a lower id can
+ * legitimately arrive after a higher one. When the buffer is still full the oldest pending event is dropped and
+ * the client is sent a {@code reset} event whose {@code lastEventId} is a change feed cursor below every event
+ * it missed, so it can catch up through the feed. A client that stops reading altogether blocks its sender
+ * thread in {@code emitter.send}; {@link #abortIfStuck} lets the broadcaster cut it off.
+ */
+class JobStreamSubscriber {
+
+    static final String RESET = "reset";
+
+    private record Sent(Integer version, String name) {
+    }
+
+    private final SseEmitter emitter;
+    private final JobStreamFilter filter;
+    private final int capacity;
+    private final Map<Long, JobStreamEvent> pending = new LinkedHashMap<>();
+    private final Map<Long, Sent> sent;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Object sendLock = new Object();
+
+    /** Thread blocked in {@code emitter.send} and since when, or null when no send is in progress. */
+    private Thread sender;
+    private long sendStartedAt;
+
+    /** Feed cursor to send in the next {@code reset} event, or -1 when none is due. */
+    private long resetCursor = -1;
+    private boolean heartbeatDue;
+    private long dropped;
+
+    JobStreamSubscriber(SseEmitter emitter, JobStreamFilter filter, int capacity) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.capacity = capacity;
+        int sentLimit = capacity * 4;
+        this.sent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Sent> eldest) {
+                return size() > sentLimit;
+            }
+        };
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void close() {
+        closed.set(true);
+    }
+
+    synchronized long dropped() {
+        return dropped;
+    }
+
+    /** Buffers the event if it matches; returns true if the subscriber needs draining. */
+    synchronized boolean offer(JobStreamEvent event) {
+        if (closed.get() || !filter.matches(event)) {
+            return false;
+        }
+        Sent previous = sent.get(event.jobId());
+        if (previous != null && isOutdated(event, previous.version(), previous.name())) {
+            return false;
+        }
+        JobStreamEvent queued = pending.get(event.jobId());
+        if (queued != null && isOutdated(event, queued.version(), queued.name())) {
+            return false;
+        }
+        pending.remove(event.jobId());
+        if (pending.size() >= capacity) {
+            Iterator<JobStreamEvent> oldest = pending.values().iterator();
+            markMissed(oldest.next().id() - 1);
+            oldest.remove();
+            dropped++;
+        }
+        pending.put(event.jobId(), event);
+        return true;
+    }
+
+    /** Called when the event the client asked to resume after is no longer buffered; resets to its own cursor. */
+    synchronized void markGap(long lastEventId) {
+        markMissed(lastEventId);
+    }
+
+    synchronized void markHeartbeatDue() {
+        heartbeatDue = true;
+    }
+
+    /** Marks the subscriber as queued for draining; false if a drain is already queued or running. */
+    boolean trySchedule() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Sends everything pending. Runs on a stream sender thread, never on the publishing thread, so a slow
+     * client only delays its own events.
+     */
+    void drain() throws IOException {
+        try {
+            while (!closed.get()) {
+                List<SseEmitter.SseEventBuilder> batch = takeBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (SseEmitter.SseEventBuilder event : batch) {
+                    beginSend();
+                    try {
+                        emitter.send(event);
+                    } finally {
+                        endSend();
+                    }
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+    }
+
+    /**
+     * Closes the subscriber and interrupts its sender if one send has been blocked for {@code timeoutNanos} or
+     * longer, which aborts the socket write with an {@link IOException} and frees the thread for other clients.
+     */
+    boolean abortIfStuck(long now, long timeoutNanos) {
+        synchronized (sendLock) {
+            if (sender == null || now - sendStartedAt < timeoutNanos) {
+                return false;
+            }
+            closed.set(true);
+            sender.interrupt();
+            return true;
+        }
+    }
+
+    synchronized boolean hasPendingWork() {
+        return !pending.isEmpty() || heartbeatDue || resetCursor >= 0;
+    }
+
+    private synchronized List<SseEmitter.SseEventBuilder> takeBatch() {
+        List<SseEmitter.SseEventBuilder> batch = new ArrayList<>(pending.size() + 2);
+        if (resetCursor >= 0) {
+            batch.add(SseEmitter.event()
+                    .name(RESET)
+                    .data(Map.of("lastEventId", resetCursor), MediaType.APPLICATION_JSON));
+            resetCursor = -1;
+        }
+        for (JobStreamEvent event : pending.values()) {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .id(Long.toString(event.id()))
+                    .name(event.name());
+            if (event.job() == null || JobStreamEvent.DELETED.equals(event.name())) {
+                builder.data(Map.of("id", event.jobId()), MediaType.APPLICATION_JSON);
+            } else {
+                builder.data(event.job(), MediaType.APPLICATION_JSON);
+            }
+            batch.add(builder);
+            sent.put(event.jobId(), new Sent(event.version(), event.name()));
+        }
+        pending.clear();
+        if (heartbeatDue && batch.isEmpty()) {
+            batch.add(SseEmitter.event().comment("heartbeat"));
+        }
+        heartbeatDue = false;
+        return batch;
+    }
+
+    private void beginSend() {
+        synchronized (sendLock) {
+            sender = Thread.currentThread();
+            sendStartedAt = System.nanoTime();
+        }
+    }
+
+    /** An interrupt from {@link #abortIfStuck} that lands just as the send completes is not left on the thread. */
+    private void endSend() {
+        synchronized (sendLock) {
+            sender = null;
+            if (closed.get()) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private void markMissed(long cursor) {
+        long safe = Math.max(0, cursor);
+        resetCursor = resetCursor < 0 ? safe : Math.min(resetCursor, safe);
+    }
+
+    /** Whether {@code event} is older than, or the same as, an event for that job with the given version. */
+    private static boolean isOutdated(JobStreamEvent event, Integer version, String name) {
+        if (event.version() == null || version == null) {
+            return false;
+        }
+        return event.version() < version || (event.version().equals(version) && event.name().equals(name));
+    }
+}
@@ -0,0 +1,120 @@
+package com.jobboard.service.views;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts job detail views without touching the database on the request path. Each view bumps a striped
+ * {@link LongAdder} for the job; a scheduled flush drains the adders, feeds the interval's views to
+ * {@link TrendingJobRanking}, and adds them to {@code job_view_count} with one upsert for all jobs. Views from
+ * a failed upsert are held back and written with the next flush. Counts are best effort: a view racing
+ * with the removal of its job's idle adder can be dropped, and views since the last flush are lost on a crash.
+ */
+@Component
+public class JobViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(JobViewCounter.class);
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_view_count (job_id, view_count, updated_at)
+            SELECT job_id, views, ? FROM unnest(?::bigint[], ?::bigint[]) AS t(job_id, views)
+            ON CONFLICT (job_id) DO UPDATE
+                SET view_count = job_view_count.view_count + EXCLUDED.view_count,
+                    updated_at = EXCLUDED.updated_at""";
+
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> unwritten = new HashMap<>();
+    private final TrendingJobRanking ranking;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushedViews;
+    private final Timer flushTimer;
+    private long lastFlush = System.nanoTime();
+
+    public JobViewCounter(TrendingJobRanking ranking, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.ranking = ranking;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushedViews = meterRegistry.counter("jobboard.views.flushed");
+        this.flushTimer = Timer.builder("jobboard.views.flush").register(meterRegistry);
+        Gauge.builder("jobboard.views.trending.tracked", ranking, TrendingJobRanking::trackedCount)
+                .register(meterRegistry);
+    }
+
+    public void record(Long jobId) {
+        LongAdder adder = pending.get(jobId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(jobId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    @Scheduled(
+            initialDelayString = "${jobboard.views.flush-interval:PT10S}",
+            fixedDelayString = "${jobboard.views.flush-interval:PT10S}")
+    public synchronized void flush() {
+        long now = System.nanoTime();
+        Map<Long, Long> views = new HashMap<>();
+        for (Iterator<Map.Entry<Long, LongAdder>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, LongAdder> entry = it.next();
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) {
+                views.put(entry.getKey(), count);
+            } else {
+                it.remove();
+            }
+        }
+        ranking.advance(views, now - lastFlush);
+        lastFlush = now;
+        views.forEach((jobId, count) -> unwritten.merge(jobId, count, Long::sum));
+        if (unwritten.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> jdbcTemplate.update(connection -> prepareUpsert(connection, unwritten)));
+            flushedViews.increment(unwritten.values().stream().mapToLong(Long::longValue).sum());
+            unwritten.clear();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush view counts for {} jobs; retrying with the next flush", unwritten.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static PreparedStatement prepareUpsert(Connection connection, Map<Long, Long> views)
+            throws SQLException {
+        Long[] jobIds = new Long[views.size()];
+        Long[] counts = new Long[views.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : views.entrySet()) {
+            jobIds[i] = entry.getKey();
+            counts[i] = entry.getValue();
+            i++;
+        }
+        PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+        statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+        statement.setArray(2, connection.createArrayOf("bigint", jobIds));
+        statement.setArray(3, connection.createArrayOf("bigint", counts));
+        return statement;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jobboard.service.views;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time-decayed view scores and the current top jobs by score. Each tick decays every score by the time since
+ * the previous one, adds that interval's views, drops scores that have faded out, and rebuilds the top list
+ * with a min-heap bounded to {@code size}. Readers only ever see the published immutable list, so serving it
+ * costs nothing. Scores live in memory only and start over after a restart.
+ *
+ * <p>The ranking is per node: it is fed only the views this node served, not the cluster-wide totals in
+ * {@code job_view_count}. With requests spread evenly across nodes every node sees a proportional sample and
+ * the lists agree on the clearly trending jobs, but near the cut-off nodes can disagree and scores are a
+ * fraction of the true view rate. A node that has just started, or that receives skewed traffic, ranks from
+ * its own views alone until it has seen enough of them.
+ */
+@Component
+public class TrendingJobRanking {
+
+    /** Below this a job has had well under one recent view and is no longer worth tracking. */
+    private static final double MIN_SCORE = 0.05;
+
+    public record RankedJob(long jobId, double score) {
+    }
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final double halfLifeNanos;
+    private final int size;
+    private final int maxTracked;
+    private volatile List<RankedJob> top = List.of();
+
+    public TrendingJobRanking(
+            @Value("${jobboard.views.trending.half-life:PT6H}") Duration halfLife,
+            @Value("${jobboard.views.trending.size:100}") int size,
+            @Value("${jobboard.views.trending.max-tracked:100000}") int maxTracked) {
+        this.halfLifeNanos = halfLife.toNanos();
+        this.size = size;
+        this.maxTracked = Math.max(size, maxTracked);
+    }
+
+    /** Highest score first; may include jobs that have since closed, which callers filter out. */
+    public List<RankedJob> top() {
+        return top;
+    }
+
+    public synchronized int trackedCount() {
+        return scores.size();
+    }
+
+    synchronized void advance(Map<Long, Long> views, long elapsedNanos) {
+        double decay = Math.pow(0.5, elapsedNanos / halfLifeNanos);
+        scores.replaceAll((id, score) -> score * decay);
+        views.forEach((id, count) -> scores.merge(id, (double) count, Double::sum));
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        if (scores.size() > maxTracked) {
+            evictLowest(scores.size() - maxTracked);
+        }
+
+        PriorityQueue<RankedJob> heap = new PriorityQueue<>(size + 1, Comparator.comparingDouble(RankedJob::score));
+        scores.forEach((id, score) -> {
+            if (heap.size() < size) {
+                heap.add(new RankedJob(id, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new RankedJob(id, score));
+            }
+        });
+        List<RankedJob> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingDouble(RankedJob::score).reversed());
+        top = List.copyOf(ranked);
+    }
+
+    private void evictLowest(int count) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+        for (int i = 0; i < count; i++) {
+            scores.remove(entries.get(i).getKey());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobboard.service.views;
+
+import com.jobboard.model.dto.TrendingJobDTO;
+import com.jobboard.service.catalog.JobCatalog;
+import com.jobboard.service.catalog.JobCatalogEntry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves the trending list from the ranking's published snapshot, resolving ids against the in-memory catalog
+ * so the request never touches the database. The list reflects the views served by this node only (see
+ * {@link TrendingJobRanking}), so two nodes can return slightly different lists.
+ */
+@Service
+public class TrendingJobService {
+
+    private final TrendingJobRanking ranking;
+    private final JobCatalog jobCatalog;
+
+    public TrendingJobService(TrendingJobRanking ranking, JobCatalog jobCatalog) {
+        this.ranking = ranking;
+        this.jobCatalog = jobCatalog;
+    }
+
+    public List<TrendingJobDTO> getTrendingJobs(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TrendingJobDTO> jobs = new ArrayList<>(limit);
+        for (TrendingJobRanking.RankedJob ranked : ranking.top()) {
+            Optional<JobCatalogEntry> entry = jobCatalog.get(ranked.jobId());
+            if (entry.isPresent() && entry.get().isLive(now)) {
+                jobs.add(new TrendingJobDTO(entry.get().toDTO(), ranked.score()));
+                if (jobs.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobboard.util;
+
+import com.jobboard.model.dto.ApplicationCreateDTO;
+import com.jobboard.model.dto.ApplicationDTO;
+import com.jobboard.model.entity.Application;
+import com.jobboard.model.entity.ApplicationStatus;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApplicationMapper {
+
+    public ApplicationDTO toDTO(Application entity) {
+        if (entity == null) {
+            return null;
+        }
+        ApplicationDTO dto = new ApplicationDTO();
+        dto.setId(entity.getId());
+        dto.setJobId(entity.getJobId());
+        dto.setApplicantEmail(entity.getApplicantEmail());
+        dto.setApplicantName(entity.getApplicantName());
+        dto.setCoverLetter(entity.getCoverLetter());
+        dto.setResumeUrl(entity.getResumeUrl());
+        dto.setStatus(entity.getStatus());
+        dto.setAppliedAt(entity.getAppliedAt());
+        return dto;
+    }
+
+    /** Emails are stored lower-cased so the per-applicant uniqueness check is case-insensitive. */
+    public Application toEntity(ApplicationCreateDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Application entity = new Application();
+        entity.setJobId(dto.getJobId());
+        entity.setApplicantEmail(normalizeEmail(dto.getApplicantEmail()));
+        entity.setApplicantName(dto.getApplicantName().trim());
+        entity.setCoverLetter(blankToNull(dto.getCoverLetter()));
+        entity.setResumeUrl(blankToNull(dto.getResumeUrl()));
+        entity.setStatus(ApplicationStatus.PENDING);
+        return entity;
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
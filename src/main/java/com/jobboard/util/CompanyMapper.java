@@ -5,6 +5,8 @@ import com.jobboard.model.dto.CompanyDTO;
 import com.jobboard.model.dto.CompanySummaryDTO;
 import com.jobboard.model.dto.CompanyUpdateDTO;
 import com.jobboard.model.entity.Company;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -65,4 +67,31 @@ public class CompanyMapper {
             entity.setLocation(dto.getLocation());
         }
     }
+
+    /** Field values compared by {@code OptimisticUpdateRetrier}; keys match {@link #requestedValues}. */
+    public Map<String, Object> snapshot(Company entity) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", entity.getName());
+        values.put("description", entity.getDescription());
+        values.put("website", entity.getWebsite());
+        values.put("location", entity.getLocation());
+        return values;
+    }
+
+    public Map<String, Object> requestedValues(CompanyUpdateDTO dto) {
+        Map<String, Object> values = new HashMap<>();
+        if (dto.getName() != null && !dto.getName().isBlank()) {
+            values.put("name", dto.getName());
+        }
+        if (dto.getDescription() != null) {
+            values.put("description", dto.getDescription());
+        }
+        if (dto.getWebsite() != null) {
+            values.put("website", dto.getWebsite());
+        }
+        if (dto.getLocation() != null && !dto.getLocation().isBlank()) {
+            values.put("location", dto.getLocation());
+        }
+        return values;
+    }
 }
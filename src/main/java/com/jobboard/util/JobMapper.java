@@ -1,20 +1,30 @@
 package com.jobboard.util;
 
+import com.jobboard.model.dto.CompanySummaryDTO;
 import com.jobboard.model.dto.JobCreateDTO;
 import com.jobboard.model.dto.JobDetailDTO;
 import com.jobboard.model.dto.JobDTO;
 import com.jobboard.model.dto.JobUpdateDTO;
 import com.jobboard.model.entity.Company;
 import com.jobboard.model.entity.Job;
+import com.jobboard.model.entity.JobArchive;
+import com.jobboard.service.catalog.CompanySummaryCache;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
+/**
+ * Job entity/DTO conversions. The company summary of a job comes from {@link CompanySummaryCache} by
+ * {@code company_id}, so mapping never initializes the lazy {@code company} association.
+ */
 @Component
 public class JobMapper {
 
-    private final CompanyMapper companyMapper;
+    private final CompanySummaryCache companySummaryCache;
 
-    public JobMapper(CompanyMapper companyMapper) {
-        this.companyMapper = companyMapper;
+    public JobMapper(CompanySummaryCache companySummaryCache) {
+        this.companySummaryCache = companySummaryCache;
     }
 
     public JobDTO toDTO(Job entity) {
@@ -32,7 +42,26 @@ public class JobMapper {
         dto.setRemoteOption(entity.getRemoteOption());
         dto.setPostedDate(entity.getPostedDate());
         dto.setIsActive(entity.getIsActive());
-        dto.setCompany(companyMapper.toSummaryDTO(entity.getCompany()));
+        dto.setCompany(companySummary(entity));
+        return dto;
+    }
+
+    public JobDTO toDTO(JobDTO source) {
+        if (source == null) {
+            return null;
+        }
+        JobDTO dto = new JobDTO();
+        dto.setId(source.getId());
+        dto.setTitle(source.getTitle());
+        dto.setLocation(source.getLocation());
+        dto.setSalaryMin(source.getSalaryMin());
+        dto.setSalaryMax(source.getSalaryMax());
+        dto.setJobType(source.getJobType());
+        dto.setExperienceLevel(source.getExperienceLevel());
+        dto.setRemoteOption(source.getRemoteOption());
+        dto.setPostedDate(source.getPostedDate());
+        dto.setIsActive(source.getIsActive());
+        dto.setCompany(source.getCompany());
         return dto;
     }
 
@@ -51,12 +80,40 @@ public class JobMapper {
         dto.setRemoteOption(entity.getRemoteOption());
         dto.setPostedDate(entity.getPostedDate());
         dto.setIsActive(entity.getIsActive());
-        dto.setCompany(companyMapper.toSummaryDTO(entity.getCompany()));
+        dto.setCompany(companySummary(entity));
         dto.setDescription(entity.getDescription());
         dto.setExpiryDate(entity.getExpiryDate());
         dto.setApplicationUrl(entity.getApplicationUrl());
+        dto.setDuplicateOfId(entity.getDuplicateOfId());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersion(entity.getVersion());
+        return dto;
+    }
+
+    public JobDetailDTO toDetailDTO(JobArchive archived) {
+        if (archived == null) {
+            return null;
+        }
+        JobDetailDTO dto = new JobDetailDTO();
+        dto.setId(archived.getId());
+        dto.setTitle(archived.getTitle());
+        dto.setLocation(archived.getLocation());
+        dto.setSalaryMin(archived.getSalaryMin());
+        dto.setSalaryMax(archived.getSalaryMax());
+        dto.setJobType(archived.getJobType());
+        dto.setExperienceLevel(archived.getExperienceLevel());
+        dto.setRemoteOption(archived.getRemoteOption());
+        dto.setPostedDate(archived.getPostedDate());
+        dto.setIsActive(archived.getIsActive());
+        dto.setCompany(companySummaryCache.summary(archived.getCompanyId()));
+        dto.setDescription(archived.getDescription());
+        dto.setExpiryDate(archived.getExpiryDate());
+        dto.setApplicationUrl(archived.getApplicationUrl());
+        dto.setDuplicateOfId(archived.getDuplicateOfId());
+        dto.setCreatedAt(archived.getCreatedAt());
+        dto.setUpdatedAt(archived.getUpdatedAt());
+        dto.setVersion(archived.getVersion());
         return dto;
     }
 
@@ -79,6 +136,32 @@ public class JobMapper {
         return entity;
     }
 
+    /** Folds a re-posted job into the existing one it duplicates and reactivates it. */
+    public void mergeFromDTO(Job entity, JobCreateDTO dto) {
+        if (entity == null || dto == null) {
+            return;
+        }
+        entity.setTitle(dto.getTitle());
+        entity.setDescription(dto.getDescription());
+        entity.setLocation(dto.getLocation());
+        if (dto.getSalaryMin() != null) {
+            entity.setSalaryMin(dto.getSalaryMin());
+        }
+        if (dto.getSalaryMax() != null) {
+            entity.setSalaryMax(dto.getSalaryMax());
+        }
+        entity.setJobType(dto.getJobType());
+        entity.setExperienceLevel(dto.getExperienceLevel());
+        entity.setRemoteOption(dto.getRemoteOption());
+        if (dto.getExpiryDate() != null) {
+            entity.setExpiryDate(dto.getExpiryDate());
+        }
+        if (dto.getApplicationUrl() != null) {
+            entity.setApplicationUrl(dto.getApplicationUrl());
+        }
+        entity.setIsActive(true);
+    }
+
     public void updateEntityFromDTO(Job entity, JobUpdateDTO dto, Company company) {
         if (entity == null || dto == null) {
             return;
@@ -117,4 +200,58 @@ public class JobMapper {
             entity.setApplicationUrl(dto.getApplicationUrl());
         }
     }
+
+    /** Field values compared by {@code OptimisticUpdateRetrier}; keys match {@link #requestedValues}. */
+    public Map<String, Object> snapshot(Job entity) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("title", entity.getTitle());
+        values.put("description", entity.getDescription());
+        values.put("companyId", entity.getCompany() != null ? entity.getCompany().getId() : null);
+        values.put("location", entity.getLocation());
+        values.put("salaryMin", normalize(entity.getSalaryMin()));
+        values.put("salaryMax", normalize(entity.getSalaryMax()));
+        values.put("jobType", entity.getJobType());
+        values.put("experienceLevel", entity.getExperienceLevel());
+        values.put("remoteOption", entity.getRemoteOption());
+        values.put("expiryDate", entity.getExpiryDate());
+        values.put("applicationUrl", entity.getApplicationUrl());
+        values.put("isActive", entity.getIsActive());
+        return values;
+    }
+
+    /**
+     * The fields a partial update writes. Salary bounds are validated as a pair, so touching either one
+     * claims both.
+     */
+    public Map<String, Object> requestedValues(JobUpdateDTO dto) {
+        Map<String, Object> values = new HashMap<>();
+        putIfPresent(values, "title", dto.getTitle());
+        putIfPresent(values, "description", dto.getDescription());
+        putIfPresent(values, "companyId", dto.getCompanyId());
+        putIfPresent(values, "location", dto.getLocation());
+        if (dto.getSalaryMin() != null || dto.getSalaryMax() != null) {
+            values.put("salaryMin", normalize(dto.getSalaryMin()));
+            values.put("salaryMax", normalize(dto.getSalaryMax()));
+        }
+        putIfPresent(values, "jobType", dto.getJobType());
+        putIfPresent(values, "experienceLevel", dto.getExperienceLevel());
+        putIfPresent(values, "remoteOption", dto.getRemoteOption());
+        putIfPresent(values, "expiryDate", dto.getExpiryDate());
+        putIfPresent(values, "applicationUrl", dto.getApplicationUrl());
+        return values;
+    }
+
+    private CompanySummaryDTO companySummary(Job entity) {
+        return entity.getCompany() != null ? companySummaryCache.summary(entity.getCompany().getId()) : null;
+    }
+
+    private static void putIfPresent(Map<String, Object> values, String field, Object value) {
+        if (value != null) {
+            values.put(field, value);
+        }
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros() : null;
+    }
 }
@@ -0,0 +1,60 @@
+package com.jobboard.util;
+
+import com.jobboard.model.dto.SavedSearchCreateDTO;
+import com.jobboard.model.dto.SavedSearchDTO;
+import com.jobboard.model.dto.SavedSearchMatchDTO;
+import com.jobboard.model.entity.SavedSearch;
+import com.jobboard.model.entity.SavedSearchMatch;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SavedSearchMapper {
+
+    public SavedSearchDTO toDTO(SavedSearch entity) {
+        if (entity == null) {
+            return null;
+        }
+        SavedSearchDTO dto = new SavedSearchDTO();
+        dto.setId(entity.getId());
+        dto.setOwnerEmail(entity.getOwnerEmail());
+        dto.setKeyword(entity.getKeyword());
+        dto.setLocation(entity.getLocation());
+        dto.setJobType(entity.getJobType());
+        dto.setExperienceLevel(entity.getExperienceLevel());
+        dto.setRemoteOption(entity.getRemoteOption());
+        dto.setCompanyId(entity.getCompanyId());
+        dto.setSalaryMin(entity.getSalaryMin());
+        dto.setSalaryMax(entity.getSalaryMax());
+        dto.setCreatedAt(entity.getCreatedAt());
+        return dto;
+    }
+
+    public SavedSearch toEntity(SavedSearchCreateDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        SavedSearch entity = new SavedSearch();
+        entity.setOwnerEmail(dto.getOwnerEmail());
+        entity.setKeyword(blankToNull(dto.getKeyword()));
+        entity.setLocation(blankToNull(dto.getLocation()));
+        entity.setJobType(dto.getJobType());
+        entity.setExperienceLevel(dto.getExperienceLevel());
+        entity.setRemoteOption(dto.getRemoteOption());
+        entity.setCompanyId(dto.getCompanyId());
+        entity.setSalaryMin(dto.getSalaryMin());
+        entity.setSalaryMax(dto.getSalaryMax());
+        return entity;
+    }
+
+    public SavedSearchMatchDTO toMatchDTO(SavedSearchMatch entity) {
+        if (entity == null) {
+            return null;
+        }
+        return new SavedSearchMatchDTO(
+                entity.getId(), entity.getSavedSearchId(), entity.getJobId(), entity.getMatchedAt());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
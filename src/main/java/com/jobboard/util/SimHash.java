@@ -0,0 +1,57 @@
+package com.jobboard.util;
+
+import java.util.List;
+
+/**
+ * 64-bit SimHash over the words of a job's title (double weight) and description. Postings that differ by a
+ * few words end up a small Hamming distance apart.
+ */
+public final class SimHash {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(String title, String description) {
+        int[] weights = new int[Long.SIZE];
+        addTokens(weights, TextTokenizer.tokens(title), TITLE_WEIGHT);
+        addTokens(weights, TextTokenizer.tokens(description), DESCRIPTION_WEIGHT);
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void addTokens(int[] weights, List<String> tokens, int weight) {
+        for (String token : tokens) {
+            addHash(weights, hash(token), weight);
+        }
+    }
+
+    private static void addHash(int[] weights, long hash, int weight) {
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+        }
+    }
+
+    /** FNV-1a followed by the SplitMix64 finalizer so nearby strings spread across all bits. */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobboard.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AIMD limit on concurrently executing requests. Each fast, uncongested completion while the limit is in use
+ * grows it by {@code 1/limit} (about +1 per round trip); a slow or congested completion shrinks it by
+ * {@code backoff-ratio}, at most once per {@code decrease-cooldown} so one burst does not collapse it. The top
+ * {@code priority-reserve} of the limit is only available to priority requests.
+ */
+@Component
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final double priorityReserve;
+    private final long decreaseCooldownNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double limit;
+    private long lastDecrease;
+
+    public AdaptiveConcurrencyLimit(
+            @Value("${jobboard.admission.limit.min:8}") int minLimit,
+            @Value("${jobboard.admission.limit.max:200}") int maxLimit,
+            @Value("${jobboard.admission.limit.initial:40}") int initialLimit,
+            @Value("${jobboard.admission.limit.target-latency:PT0.5S}") Duration targetLatency,
+            @Value("${jobboard.admission.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${jobboard.admission.limit.priority-reserve:0.2}") double priorityReserve,
+            @Value("${jobboard.admission.limit.decrease-cooldown:PT0.1S}") Duration decreaseCooldown) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.priorityReserve = priorityReserve;
+        this.decreaseCooldownNanos = decreaseCooldown.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecrease = System.nanoTime() - decreaseCooldownNanos;
+    }
+
+    /** Returns the number of requests in flight at admission, or -1 when the request must be shed. */
+    public int tryAcquire(boolean priority) {
+        int current = limit();
+        int capacity = priority ? current : Math.max(1, (int) (current * (1 - priorityReserve)));
+        while (true) {
+            int running = inFlight.get();
+            if (running >= capacity) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(running, running + 1)) {
+                return running + 1;
+            }
+        }
+    }
+
+    public void release(int inFlightAtStart, long latencyNanos, boolean congested) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (congested || latencyNanos > targetLatencyNanos) {
+                if (now - lastDecrease >= decreaseCooldownNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecrease = now;
+                }
+            } else if (inFlightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
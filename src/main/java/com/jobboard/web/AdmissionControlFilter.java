@@ -0,0 +1,103 @@
+package com.jobboard.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobboard.model.dto.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control for the public API. A request passes three gates before it reaches a controller: the
+ * caller's token buckets, connection-pool pressure, and the adaptive concurrency limit. Single-job reads
+ * ({@code GET /api/jobs/{id}}) are priority traffic: they skip the pool-pressure gate and may use the reserved
+ * part of the concurrency limit, so they keep working while list and write traffic is shed.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Pattern PRIORITY_PATH = Pattern.compile("^/api/jobs/\\d+$");
+    private static final String STREAM_PATH = "/api/jobs/stream";
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final int poolWaitThreshold;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlFilter(
+            ClientRateLimiter clientRateLimiter,
+            AdaptiveConcurrencyLimit concurrencyLimit,
+            ConnectionPoolMonitor connectionPoolMonitor,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            int poolWaitThreshold,
+            Duration retryAfter) {
+        this.clientRateLimiter = clientRateLimiter;
+        this.concurrencyLimit = concurrencyLimit;
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.poolWaitThreshold = poolWaitThreshold;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return STREAM_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitNanos = clientRateLimiter.tryAcquire(ClientIds.caller(request), ClientIds.declared(request));
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "client_rate",
+                    TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1,
+                    "Request rate limit exceeded");
+            return;
+        }
+
+        boolean priority = "GET".equals(request.getMethod())
+                && PRIORITY_PATH.matcher(request.getRequestURI()).matches();
+        if (!priority && connectionPoolMonitor.threadsAwaitingConnection() > poolWaitThreshold) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "pool_pressure", retryAfterSeconds,
+                    "Service is overloaded, please retry later");
+            return;
+        }
+
+        int inFlightAtStart = concurrencyLimit.tryAcquire(priority);
+        if (inFlightAtStart < 0) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "concurrency", retryAfterSeconds,
+                    "Service is overloaded, please retry later");
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            boolean congested = connectionPoolMonitor.threadsAwaitingConnection() > poolWaitThreshold;
+            concurrencyLimit.release(inFlightAtStart, System.nanoTime() - started, congested);
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String reason, long retryAfter,
+            String message) throws IOException {
+        meterRegistry.counter("jobboard.admission.rejected", "reason", reason).increment();
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(message, status.value(), LocalDateTime.now()));
+    }
+}
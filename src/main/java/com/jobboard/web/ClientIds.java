@@ -0,0 +1,30 @@
+package com.jobboard.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.Principal;
+
+public final class ClientIds {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private ClientIds() {
+    }
+
+    /** The caller's self-declared client id when present, otherwise its remote address. */
+    public static String resolve(HttpServletRequest request) {
+        String clientId = declared(request);
+        return clientId != null ? clientId : request.getRemoteAddr();
+    }
+
+    /** Who the caller verifiably is: the authenticated principal if any, otherwise the remote address. */
+    public static String caller(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    /** The self-declared client id, or null when the header is absent or blank. */
+    public static String declared(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId.trim() : null;
+    }
+}
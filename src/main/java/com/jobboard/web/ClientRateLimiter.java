@@ -0,0 +1,122 @@
+package com.jobboard.web;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets per caller. Every request spends a token from the bucket of its remote address (or
+ * authenticated principal), which a client cannot change at will; a self-declared {@code X-Client-Id} only
+ * selects a sub-bucket inside that address's allowance, so clients sharing an address are limited separately
+ * but inventing ids never buys more than the address limit. Buckets refill continuously up to their burst and
+ * are dropped after {@code idle-timeout}. Each table is capped at {@code max-tracked-clients}; once full, new
+ * callers share one overflow bucket until idle entries are evicted.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private record SubKey(String caller, String clientId) {
+    }
+
+    private final Tier callers;
+    private final Tier clients;
+    private final long idleTimeoutNanos;
+
+    public ClientRateLimiter(
+            @Value("${jobboard.admission.client.requests-per-second:50}") double requestsPerSecond,
+            @Value("${jobboard.admission.client.burst:100}") double burst,
+            @Value("${jobboard.admission.address.requests-per-second:200}") double addressRequestsPerSecond,
+            @Value("${jobboard.admission.address.burst:400}") double addressBurst,
+            @Value("${jobboard.admission.client.max-tracked-clients:100000}") int maxTrackedClients,
+            @Value("${jobboard.admission.client.idle-timeout:PT10M}") Duration idleTimeout) {
+        long now = System.nanoTime();
+        this.callers = new Tier(addressRequestsPerSecond, addressBurst, maxTrackedClients, now);
+        this.clients = new Tier(requestsPerSecond, burst, maxTrackedClients, now);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Takes a token for the caller and, when it declared one, its client id; returns 0 when granted, otherwise
+     * the nanos until a token is available.
+     */
+    public long tryAcquire(String caller, String clientId) {
+        long now = System.nanoTime();
+        long wait = callers.tryAcquire(caller, now);
+        if (wait > 0 || clientId == null) {
+            return wait;
+        }
+        return clients.tryAcquire(new SubKey(caller, clientId), now);
+    }
+
+    public int trackedClients() {
+        return callers.buckets.size() + clients.buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jobboard.admission.client.idle-timeout:PT10M}")
+    public void evictIdleClients() {
+        long cutoff = System.nanoTime() - idleTimeoutNanos;
+        callers.evictIdle(cutoff);
+        clients.evictIdle(cutoff);
+    }
+
+    private static final class Tier {
+
+        private final double tokensPerNano;
+        private final double burst;
+        private final int maxTracked;
+        private final ConcurrentMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
+        private final Bucket overflow;
+
+        private Tier(double requestsPerSecond, double burst, int maxTracked, long now) {
+            this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.burst = burst;
+            this.maxTracked = maxTracked;
+            this.overflow = new Bucket(this, now);
+        }
+
+        private long tryAcquire(Object key, long now) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.size() < maxTracked
+                        ? buckets.computeIfAbsent(key, id -> new Bucket(this, now))
+                        : overflow;
+            }
+            return bucket.tryAcquire(now);
+        }
+
+        private void evictIdle(long cutoff) {
+            buckets.values().removeIf(bucket -> bucket.lastSeen() - cutoff < 0);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final Tier tier;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(Tier tier, long now) {
+            this.tier = tier;
+            this.tokens = tier.burst;
+            this.refilledAt = now;
+        }
+
+        private synchronized long tryAcquire(long now) {
+            tokens = Math.min(tier.burst, tokens + (now - refilledAt) * tier.tokensPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tier.tokensPerNano);
+        }
+
+        private synchronized long lastSeen() {
+            return refilledAt;
+        }
+    }
+}
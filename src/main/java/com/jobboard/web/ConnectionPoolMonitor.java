@@ -0,0 +1,47 @@
+package com.jobboard.web;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads queue pressure from the Hikari pool: the number of threads blocked waiting for a connection is the
+ * earliest sign that the database has slowed down.
+ */
+@Component
+public class ConnectionPoolMonitor {
+
+    private final DataSource dataSource;
+    private volatile HikariPoolMXBean pool;
+
+    public ConnectionPoolMonitor(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public int threadsAwaitingConnection() {
+        HikariPoolMXBean mxBean = pool();
+        return mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0;
+    }
+
+    public int activeConnections() {
+        HikariPoolMXBean mxBean = pool();
+        return mxBean != null ? mxBean.getActiveConnections() : 0;
+    }
+
+    private HikariPoolMXBean pool() {
+        HikariPoolMXBean mxBean = pool;
+        if (mxBean == null) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    mxBean = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                    pool = mxBean;
+                }
+            } catch (SQLException ex) {
+                return null;
+            }
+        }
+        return mxBean;
+    }
+}
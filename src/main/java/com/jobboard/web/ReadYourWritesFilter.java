@@ -0,0 +1,43 @@
+package com.jobboard.web;
+
+import com.jobboard.datasource.ReadYourWritesTracker;
+import com.jobboard.datasource.RoutingContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Pins a request's read-only transactions to the primary when the client is writing, or wrote within the
+ * read-your-writes window.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = ClientIds.resolve(request);
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            tracker.recordWrite(clientId);
+            RoutingContext.forcePrimary();
+        } else if (tracker.isSticky(clientId)) {
+            RoutingContext.forcePrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+-- Baseline: the schema as previously created by ddl-auto=update.
+-- Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE company (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description TEXT,
+    website     VARCHAR(255),
+    location    VARCHAR(255),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    version     INTEGER
+);
+
+CREATE TABLE job (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title               VARCHAR(255) NOT NULL,
+    description         TEXT NOT NULL,
+    company_id          BIGINT NOT NULL,
+    location            VARCHAR(255) NOT NULL,
+    salary_min          NUMERIC(10, 2),
+    salary_max          NUMERIC(10, 2),
+    job_type            VARCHAR(255) NOT NULL,
+    experience_level    VARCHAR(255) NOT NULL,
+    remote_option       VARCHAR(255) NOT NULL,
+    posted_date         TIMESTAMP(6) NOT NULL,
+    expiry_date         TIMESTAMP(6),
+    is_active           BOOLEAN,
+    application_url     VARCHAR(500),
+    content_fingerprint BIGINT,
+    duplicate_of_id     BIGINT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6),
+    version             INTEGER,
+    CONSTRAINT fk_job_company FOREIGN KEY (company_id) REFERENCES company (id)
+);
+
+CREATE INDEX idx_job_company_id ON job (company_id);
+CREATE INDEX idx_job_is_active ON job (is_active);
+CREATE INDEX idx_job_posted_date ON job (posted_date);
+CREATE INDEX idx_job_duplicate_of_id ON job (duplicate_of_id);
+
+CREATE TABLE job_change (
+    seq         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id      BIGINT NOT NULL,
+    change_type VARCHAR(255) NOT NULL,
+    job_version INTEGER,
+    changed_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_job_change_job_id ON job_change (job_id);
+CREATE INDEX idx_job_change_changed_at ON job_change (changed_at);
+
+CREATE TABLE saved_search (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_email      VARCHAR(255) NOT NULL,
+    keyword          VARCHAR(255),
+    location         VARCHAR(255),
+    job_type         VARCHAR(255),
+    experience_level VARCHAR(255),
+    remote_option    VARCHAR(255),
+    company_id       BIGINT,
+    salary_min       NUMERIC(10, 2),
+    salary_max       NUMERIC(10, 2),
+    created_at       TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_saved_search_owner_email ON saved_search (owner_email);
+
+CREATE TABLE saved_search_match (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    saved_search_id BIGINT NOT NULL,
+    job_id          BIGINT NOT NULL,
+    job_version     INTEGER,
+    matched_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_saved_search_match_search_job UNIQUE (saved_search_id, job_id)
+);
+
+CREATE INDEX idx_saved_search_match_job_id ON saved_search_match (job_id);
@@ -0,0 +1,30 @@
+CREATE TABLE job_archive (
+    id                  BIGINT PRIMARY KEY,
+    title               VARCHAR(255) NOT NULL,
+    description         TEXT NOT NULL,
+    company_id          BIGINT NOT NULL,
+    location            VARCHAR(255) NOT NULL,
+    salary_min          NUMERIC(10, 2),
+    salary_max          NUMERIC(10, 2),
+    job_type            VARCHAR(255) NOT NULL,
+    experience_level    VARCHAR(255) NOT NULL,
+    remote_option       VARCHAR(255) NOT NULL,
+    posted_date         TIMESTAMP(6) NOT NULL,
+    expiry_date         TIMESTAMP(6),
+    is_active           BOOLEAN,
+    application_url     VARCHAR(500),
+    content_fingerprint BIGINT,
+    duplicate_of_id     BIGINT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6),
+    version             INTEGER,
+    archived_at         TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_job_archive_company_id ON job_archive (company_id);
+
+-- Finds archival candidates without scanning live rows.
+CREATE INDEX idx_job_expiry_date ON job (expiry_date);
+
+-- ddl-auto=update created a check constraint listing the change types known at the time; ARCHIVED is new.
+ALTER TABLE job_change DROP CONSTRAINT IF EXISTS job_change_change_type_check;
@@ -0,0 +1,4 @@
+-- Serves GET /api/companies/{id}/jobs: equality on company and active flag, keyset order on (posted_date, id).
+-- It also covers every lookup the single-column company index was used for.
+CREATE INDEX idx_job_company_active_posted ON job (company_id, is_active, posted_date, id);
+DROP INDEX IF EXISTS idx_job_company_id;
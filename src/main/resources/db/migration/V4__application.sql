@@ -0,0 +1,20 @@
+CREATE TABLE application (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id          BIGINT NOT NULL,
+    applicant_email VARCHAR(255) NOT NULL,
+    applicant_name  VARCHAR(255) NOT NULL,
+    cover_letter    TEXT,
+    resume_url      VARCHAR(500),
+    status          VARCHAR(255) NOT NULL,
+    applied_at      TIMESTAMP(6) NOT NULL,
+    version         INTEGER,
+    CONSTRAINT uk_application_job_applicant UNIQUE (job_id, applicant_email)
+);
+
+CREATE INDEX idx_application_applicant_email ON application (applicant_email);
+
+CREATE TABLE job_application_count (
+    job_id            BIGINT PRIMARY KEY,
+    application_count BIGINT NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,5 @@
+CREATE TABLE job_view_count (
+    job_id     BIGINT PRIMARY KEY,
+    view_count BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
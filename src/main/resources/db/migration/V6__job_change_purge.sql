@@ -0,0 +1,6 @@
+-- Highest job_change seq removed by retention. A feed cursor below it has lost changes; one at or above it has
+-- not, whatever gaps rolled-back inserts left in the sequence.
+CREATE TABLE job_change_purge (
+    id             INTEGER PRIMARY KEY,
+    purged_through BIGINT NOT NULL
+);
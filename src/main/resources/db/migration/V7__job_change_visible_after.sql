@@ -0,0 +1,7 @@
+-- Next unassigned transaction id as of the writing transaction's commit, after it had drawn all of its seqs.
+-- Once every id below it has finished, no transaction can still commit a lower seq, so the feed may pass the row.
+ALTER TABLE job_change ADD COLUMN visible_after BIGINT;
+
+UPDATE job_change SET visible_after = 0;
+
+CREATE INDEX idx_job_change_visible_after ON job_change (visible_after);
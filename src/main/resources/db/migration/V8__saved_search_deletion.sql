@@ -0,0 +1,10 @@
+-- Saved searches deleted recently, so other nodes can drop them from their percolator index. Only needs to outlive
+-- the pollers' look-back; a node that starts later loads the surviving searches instead.
+CREATE TABLE saved_search_deletion (
+    saved_search_id BIGINT PRIMARY KEY,
+    deleted_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_saved_search_deletion_deleted_at ON saved_search_deletion (deleted_at);
+
+CREATE INDEX idx_saved_search_created_at ON saved_search (created_at);
@@ -0,0 +1,143 @@
+package com.jobboard.benchmark;
+
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jobboard.event.CompanyChangedEvent;
+import com.jobboard.model.dto.CompanySummaryDTO;
+import com.jobboard.model.entity.ChangeType;
+import com.jobboard.model.entity.Company;
+import com.jobboard.model.entity.ExperienceLevel;
+import com.jobboard.model.entity.Job;
+import com.jobboard.model.entity.JobType;
+import com.jobboard.model.entity.RemoteOption;
+import com.jobboard.repository.CompanyRepository;
+import com.jobboard.service.catalog.CompanySummaryCache;
+import com.jobboard.service.render.JobJsonFragmentCache;
+import com.jobboard.service.render.JsonFragment;
+import com.jobboard.util.JobMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * CPU per list page: full {@code JobMapper} + Jackson serialization against spliced pre-rendered fragments.
+ * Run with {@code java -cp <test classpath> com.jobboard.benchmark.JobListRenderBenchmark [pages] [pageSize]}.
+ */
+public final class JobListRenderBenchmark {
+
+    private static final int CATALOG_SIZE = 5_000;
+
+    private JobListRenderBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int pages = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int pageSize = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<Company> companies = companies();
+        CompanySummaryCache companySummaryCache = companySummaryCache(companies);
+        JobMapper jobMapper = new JobMapper(companySummaryCache);
+        JobJsonFragmentCache cache = new JobJsonFragmentCache(
+                jobMapper, companySummaryCache, objectMapper, new SimpleMeterRegistry(), CATALOG_SIZE);
+        List<Job> jobs = catalog(companies);
+
+        byte[] expected = objectMapper.writeValueAsBytes(page(jobs, 0, pageSize, jobMapper::toDTO));
+        byte[] actual = objectMapper.writeValueAsBytes(page(jobs, 0, pageSize, cache::render));
+        if (!Arrays.equals(expected, actual)) {
+            throw new IllegalStateException("Fragment output differs from Jackson output");
+        }
+
+        for (int round = 0; round < 3; round++) {
+            double baseline = cpuNanosPerPage(pages, pageSize, jobs, objectMapper, jobMapper::toDTO);
+            double fragments = cpuNanosPerPage(pages, pageSize, jobs, objectMapper, cache::render);
+            System.out.printf("round %d: jackson %.1f us/page, fragments %.1f us/page, %.2fx (%d bytes/page)%n",
+                    round, baseline / 1_000, fragments / 1_000, baseline / fragments, actual.length);
+        }
+    }
+
+    private static double cpuNanosPerPage(int pages, int pageSize, List<Job> jobs, ObjectMapper objectMapper,
+            Function<Job, ?> renderer) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        long started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < pages; i++) {
+            int offset = (i * pageSize) % (jobs.size() - pageSize);
+            sink += objectMapper.writeValueAsBytes(page(jobs, offset, pageSize, renderer)).length;
+        }
+        long elapsed = threads.getCurrentThreadCpuTime() - started;
+        if (sink == 0) {
+            throw new IllegalStateException();
+        }
+        return (double) elapsed / pages;
+    }
+
+    private static <T> Page<T> page(List<Job> jobs, int offset, int pageSize, Function<Job, T> renderer) {
+        List<T> content = new ArrayList<>(pageSize);
+        for (int i = offset; i < offset + pageSize; i++) {
+            content.add(renderer.apply(jobs.get(i)));
+        }
+        return new PageImpl<>(content, PageRequest.of(offset / pageSize, pageSize), jobs.size());
+    }
+
+    /** A summary cache holding every company, as after the startup load; it never reads the repository. */
+    private static CompanySummaryCache companySummaryCache(List<Company> companies) {
+        CompanySummaryCache cache = new CompanySummaryCache(mock(CompanyRepository.class), new SimpleMeterRegistry());
+        for (Company company : companies) {
+            cache.onCompanyChanged(new CompanyChangedEvent(ChangeType.UPDATED, company.getId(), company.getVersion(),
+                    new CompanySummaryDTO(company.getId(), company.getName(), company.getLocation())));
+        }
+        return cache;
+    }
+
+    private static List<Company> companies() {
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Company company = new Company();
+            company.setId((long) i + 1);
+            company.setName("Company " + i);
+            company.setLocation(i % 2 == 0 ? "Berlin, Germany" : "Austin, TX");
+            company.setVersion(0);
+            companies.add(company);
+        }
+        return companies;
+    }
+
+    private static List<Job> catalog(List<Company> companies) {
+        LocalDateTime posted = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<Job> jobs = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            Job job = new Job();
+            job.setId((long) i + 1);
+            job.setTitle("Senior Software Engineer " + i);
+            job.setLocation("Remote - Europe");
+            job.setSalaryMin(BigDecimal.valueOf(70_000 + i % 50 * 1_000));
+            job.setSalaryMax(BigDecimal.valueOf(110_000 + i % 50 * 1_000));
+            job.setJobType(JobType.values()[i % JobType.values().length]);
+            job.setExperienceLevel(ExperienceLevel.values()[i % ExperienceLevel.values().length]);
+            job.setRemoteOption(RemoteOption.values()[i % RemoteOption.values().length]);
+            job.setPostedDate(posted.plusMinutes(i));
+            job.setIsActive(true);
+            job.setVersion(0);
+            job.setCompany(companies.get(i % companies.size()));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+}
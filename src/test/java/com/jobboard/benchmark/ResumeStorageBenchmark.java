@@ -0,0 +1,188 @@
+package com.jobboard.benchmark;
+
+import com.jobboard.service.resume.ResumeStorage;
+import com.jobboard.service.resume.ResumeStorage.StoredResume;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Upload throughput and peak heap for {@link ResumeStorage} against a read-everything-into-memory baseline,
+ * with concurrent uploaders, followed by download throughput of {@code FileChannel.transferTo} against a
+ * buffered stream copy. Downloads go to {@code /dev/null}, which flatters {@code transferTo}; the gap to a socket
+ * is smaller but keeps the same direction. Run with {@code java -Xmx512m -cp <test classpath>
+ * com.jobboard.benchmark.ResumeStorageBenchmark [threads] [uploadsPerThread] [fileSizeBytes]}.
+ */
+public final class ResumeStorageBenchmark {
+
+    private ResumeStorageBenchmark() {
+    }
+
+    @FunctionalInterface
+    private interface Uploader {
+        void upload(InputStream in, long length) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int uploadsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int fileSize = args.length > 2 ? Integer.parseInt(args[2]) : 4 * 1024 * 1024;
+
+        Path root = Files.createTempDirectory("resume-benchmark");
+        ResumeStorage storage = new ResumeStorage(root.resolve("store").toString(), DataSize.ofMegabytes(64));
+        Path baselineDirectory = Files.createDirectories(root.resolve("baseline"));
+
+        for (int round = 0; round < 2; round++) {
+            report("streaming", threads, uploadsPerThread, fileSize,
+                    (in, length) -> storage.store(in, length));
+            report("buffered ", threads, uploadsPerThread, fileSize,
+                    (in, length) -> bufferedStore(baselineDirectory, in));
+        }
+
+        StoredResume sample = storage.store(new SyntheticPdf(fileSize, 42), fileSize);
+        StoredResume duplicate = storage.store(new SyntheticPdf(fileSize, 42), fileSize);
+        System.out.printf("identical upload deduplicated: %s (same id: %s)%n",
+                duplicate.deduplicated(), sample.id().equals(duplicate.id()));
+
+        int downloads = 500;
+        for (int round = 0; round < 2; round++) {
+            double transferTo = downloadMegabytesPerSecond(sample.file(), downloads, true);
+            double streamCopy = downloadMegabytesPerSecond(sample.file(), downloads, false);
+            System.out.printf("download round %d: transferTo %.0f MB/s, stream copy %.0f MB/s%n",
+                    round, transferTo, streamCopy);
+        }
+    }
+
+    private static void report(String label, int threads, int uploadsPerThread, int fileSize, Uploader uploader)
+            throws Exception {
+        System.gc();
+        resetPeakHeap();
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < uploadsPerThread; i++) {
+                    uploader.upload(new SyntheticPdf(fileSize, (long) thread * 1_000_003 + i + System.nanoTime()),
+                            fileSize);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        double megabytes = (double) threads * uploadsPerThread * fileSize / (1024 * 1024);
+        System.out.printf("%s upload: %d threads x %d x %d KB: %.0f MB/s, peak heap %d MB%n",
+                label, threads, uploadsPerThread, fileSize / 1024, megabytes / seconds, peakHeap() / (1024 * 1024));
+    }
+
+    private static void bufferedStore(Path directory, InputStream in) throws Exception {
+        byte[] content = in.readAllBytes();
+        String id = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        Files.write(directory.resolve(id + ".pdf"), content);
+    }
+
+    private static double downloadMegabytesPerSecond(Path file, int downloads, boolean zeroCopy) throws IOException {
+        long size = Files.size(file);
+        long started = System.nanoTime();
+        try (FileChannel sink = FileChannel.open(Path.of("/dev/null"), StandardOpenOption.WRITE)) {
+            for (int i = 0; i < downloads; i++) {
+                if (zeroCopy) {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                        long position = 0;
+                        while (position < size) {
+                            position += channel.transferTo(position, size - position, sink);
+                        }
+                    }
+                } else {
+                    OutputStream out = Channels.newOutputStream((WritableByteChannel) sink);
+                    try (InputStream in = Files.newInputStream(file)) {
+                        in.transferTo(out);
+                    }
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        return (double) downloads * size / (1024 * 1024) / seconds;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /** A PDF-looking stream of pseudo-random bytes, generated on the fly so the input itself costs no heap. */
+    private static final class SyntheticPdf extends InputStream {
+
+        private static final byte[] HEADER = {'%', 'P', 'D', 'F', '-', '1', '.', '7'};
+
+        private final long length;
+        private final SplittableRandom random;
+        private long position;
+
+        SyntheticPdf(long length, long seed) {
+            this.length = length;
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public int read() {
+            if (position >= length) {
+                return -1;
+            }
+            int value = position < HEADER.length ? HEADER[(int) position] : random.nextInt(256);
+            position++;
+            return value & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) {
+            if (position >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(count, length - position);
+            for (int i = 0; i < n; i++) {
+                buffer[offset + i] = position < HEADER.length
+                        ? HEADER[(int) position]
+                        : (byte) random.nextInt(256);
+                position++;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobboard.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-to-first-request: starts the application as a child process, polls a URL until it answers 200, then
+ * stops the process. Repeats and prints min/median/max so the plain jar can be compared with the AOT + CDS
+ * variant from {@code scripts/fast-start.sh}.
+ *
+ * <pre>
+ * java -cp &lt;test classpath&gt; com.jobboard.benchmark.StartupBenchmark 5 http://localhost:8080/api/jobs?size=1 \
+ *     java -XX:SharedArchiveFile=target/fast-start/application.jsa -Dspring.aot.enabled=true \
+ *     -Dspring.profiles.active=prod -jar target/fast-start/job-board-api-0.0.1-SNAPSHOT.jar
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: StartupBenchmark <runs> <url> <command...>");
+            System.exit(1);
+        }
+        int runs = Integer.parseInt(args[0]);
+        URI url = URI.create(args[1]);
+        List<String> command = Arrays.asList(args).subList(2, args.length);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        List<Long> samples = new ArrayList<>();
+        for (int run = 0; run < runs; run++) {
+            long millis = timeToFirstRequest(command, url, client);
+            samples.add(millis);
+            System.out.printf("run %d: %d ms%n", run + 1, millis);
+        }
+        Collections.sort(samples);
+        System.out.printf("time to first request: min %d ms, median %d ms, max %d ms%n",
+                samples.get(0), samples.get(samples.size() / 2), samples.get(samples.size() - 1));
+    }
+
+    private static long timeToFirstRequest(List<String> command, URI url, HttpClient client) throws Exception {
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/startup-benchmark.log"))
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+            while (System.nanoTime() - started < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue()
+                            + "; see target/startup-benchmark.log");
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    }
+                } catch (IOException ex) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful response within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.jobboard.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    @AfterEach
+    void clearRoutingContext() {
+        RoutingContext.clear();
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN, null, Duration.ofSeconds(10), "replica_a");
+
+        assertThat(routing.nodeName(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicas() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN, null, Duration.ofSeconds(10), "replica_a", "replica_b");
+
+        assertThat(routing.nodeName(true)).startsWith("replica_");
+        assertThat(routing.nodeName(true)).startsWith("replica_");
+        assertThat(routing.nodeName(true)).isNotEqualTo(routing.nodeName(true));
+    }
+
+    @Test
+    void leastLoadedSelectionSkipsUnhealthyReplicas() {
+        Routing routing =
+                routing(ReplicaSelection.LEAST_LOADED, null, Duration.ofSeconds(10), "replica_a", "replica_b");
+        routing.pool.markUnhealthy("replica_a", new IllegalStateException("down"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(routing.nodeName(true)).isEqualTo("replica_b");
+        }
+    }
+
+    @Test
+    void forcedPrimaryOverridesReadOnly() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN, null, Duration.ofSeconds(10), "replica_a");
+        RoutingContext.forcePrimary();
+
+        assertThat(routing.nodeName(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsHealthy() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN, null, Duration.ofSeconds(10), "replica_a");
+        routing.pool.markUnhealthy("replica_a", new IllegalStateException("down"));
+
+        assertThat(routing.nodeName(true)).isEqualTo("primary");
+
+        routing.pool.checkHealth();
+        assertThat(routing.nodeName(true)).isEqualTo("replica_a");
+    }
+
+    @Test
+    void unreachableReplicaIsTakenOutOfRotation() {
+        JdbcDataSource broken = new JdbcDataSource();
+        broken.setURL("jdbc:h2:mem:missing_replica;IFEXISTS=TRUE");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("broken", broken);
+        ReplicaPool pool = new ReplicaPool(replicas, ReplicaSelection.ROUND_ROBIN, null, Duration.ofSeconds(10));
+        Routing routing = new Routing(database("primary"), pool);
+
+        assertThat(routing.nodeName(true)).isEqualTo("primary");
+        assertThat(pool.isHealthy("broken")).isFalse();
+    }
+
+    @Test
+    void laggingReplicaFailsHealthCheck() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN, "SELECT 30", Duration.ofSeconds(10), "replica_a");
+
+        routing.pool.checkHealth();
+
+        assertThat(routing.pool.isHealthy("replica_a")).isFalse();
+        assertThat(routing.nodeName(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void clientIsStickyOnlyWithinWindow() throws InterruptedException {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMillis(50));
+        tracker.recordWrite("client-1");
+
+        assertThat(tracker.isSticky("client-1")).isTrue();
+        assertThat(tracker.isSticky("client-2")).isFalse();
+
+        Thread.sleep(80);
+        assertThat(tracker.isSticky("client-1")).isFalse();
+    }
+
+    private static Routing routing(
+            ReplicaSelection selection, String lagQuery, Duration maxLag, String... replicaNames) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : replicaNames) {
+            replicas.put(name, database(name));
+        }
+        return new Routing(database("primary"), new ReplicaPool(replicas, selection, lagQuery, maxLag));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(32))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static final class Routing {
+
+        private final ReplicaPool pool;
+        private final JdbcTemplate jdbcTemplate;
+        private final DataSourceTransactionManager transactionManager;
+
+        private Routing(DataSource primary, ReplicaPool pool) {
+            this.pool = pool;
+            DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, pool));
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        private String nodeName(boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(readOnly);
+            return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+}
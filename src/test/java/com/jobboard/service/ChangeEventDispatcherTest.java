@@ -0,0 +1,191 @@
+package com.jobboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobboard.event.ChangeEvent;
+import com.jobboard.event.ChangeSubscriber;
+import com.jobboard.event.JobChangedEvent;
+import com.jobboard.model.entity.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ChangeEventDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChangeEventDispatcher dispatcher;
+
+    @AfterEach
+    void stopDispatcher() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void fullQueueDropsInsteadOfBlockingTheCommittingThread() throws InterruptedException {
+        GatedSubscriber gate = new GatedSubscriber();
+        dispatcher = dispatcher(2, List.of(gate));
+        dispatcher.onCommitted(change(1));
+        assertThat(gate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long started = System.nanoTime();
+        for (long seq = 2; seq <= 5; seq++) {
+            dispatcher.onCommitted(change(seq));
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.counter("jobboard.events.overflows").count()).isEqualTo(2);
+        gate.release.countDown();
+    }
+
+    @Test
+    void droppedChangesAreRedeliveredFromTheFeedToEverySubscriber() throws InterruptedException {
+        GatedSubscriber gate = new GatedSubscriber();
+        RecordingSubscriber localOnly = new RecordingSubscriber(false);
+        dispatcher = dispatcher(2, List.of(gate, localOnly));
+        dispatcher.onCommitted(change(1));
+        assertThat(gate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long seq = 2; seq <= 5; seq++) {
+            dispatcher.onCommitted(change(seq));
+        }
+        gate.release.countDown();
+        assertThat(localOnly.take(3)).containsExactly(1L, 2L, 3L);
+
+        dispatcher.deliverFeed(List.of(change(2), change(3), change(4), change(5)), 5);
+
+        assertThat(localOnly.take(2)).containsExactly(4L, 5L);
+        assertThat(localOnly.nothingMore()).isTrue();
+    }
+
+    @Test
+    void feedSkipsChangesAlreadyDeliveredLocally() throws InterruptedException {
+        RecordingSubscriber all = new RecordingSubscriber(true);
+        dispatcher = dispatcher(10, List.of(all));
+        dispatcher.onCommitted(change(1));
+        dispatcher.onCommitted(change(2));
+        assertThat(all.take(2)).containsExactly(1L, 2L);
+
+        dispatcher.deliverFeed(List.of(change(1), change(2), change(3)), 3);
+
+        assertThat(all.take(1)).containsExactly(3L);
+        assertThat(all.nothingMore()).isTrue();
+    }
+
+    @Test
+    void feedPositionAdvancesOnlyOnceSubscribersHaveAppliedIt() throws InterruptedException {
+        GatedSubscriber gate = new GatedSubscriber();
+        dispatcher = dispatcher(10, List.of(gate));
+        dispatcher.onCommitted(change(1));
+        assertThat(gate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.deliverFeed(List.of(change(2)), 2);
+
+        assertThat(dispatcher.feedAppliedThrough()).isEqualTo(-1);
+        gate.release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.feedAppliedThrough() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatcher.feedAppliedThrough()).isEqualTo(2);
+    }
+
+    @Test
+    void remoteChangesOnlyReachSubscribersThatAskForThem() throws InterruptedException {
+        RecordingSubscriber all = new RecordingSubscriber(true);
+        RecordingSubscriber localOnly = new RecordingSubscriber(false);
+        dispatcher = dispatcher(10, List.of(all, localOnly));
+
+        dispatcher.deliverFeed(List.of(change(7)), 7);
+        dispatcher.onCommitted(change(8));
+
+        assertThat(all.take(2)).containsExactly(7L, 8L);
+        assertThat(localOnly.take(1)).containsExactly(8L);
+        assertThat(localOnly.nothingMore()).isTrue();
+    }
+
+    @Test
+    void failingSubscriberDoesNotStopTheOthers() throws InterruptedException {
+        ChangeSubscriber failing = new ChangeSubscriber() {
+            @Override
+            public void onJobChanged(JobChangedEvent event) {
+                throw new IllegalStateException("broken");
+            }
+        };
+        RecordingSubscriber all = new RecordingSubscriber(true);
+        dispatcher = dispatcher(10, List.of(failing, all));
+
+        dispatcher.onCommitted(change(1));
+
+        assertThat(all.take(1)).containsExactly(1L);
+    }
+
+    private ChangeEventDispatcher dispatcher(int queueCapacity, List<ChangeSubscriber> subscribers) {
+        return new ChangeEventDispatcher(subscribers, meterRegistry, queueCapacity, 256, 1000, Duration.ofSeconds(5));
+    }
+
+    private static JobChangedEvent change(long seq) {
+        return new JobChangedEvent(seq, ChangeType.UPDATED, seq, 1, null, null);
+    }
+
+    /** Blocks the dispatcher thread inside its first batch until released. */
+    private static final class GatedSubscriber implements ChangeSubscriber {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void onChanges(List<ChangeEvent> batch) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class RecordingSubscriber implements ChangeSubscriber {
+
+        private final BlockingQueue<Long> received = new LinkedBlockingQueue<>();
+        private final boolean remote;
+
+        private RecordingSubscriber(boolean remote) {
+            this.remote = remote;
+        }
+
+        @Override
+        public boolean receivesRemoteChanges() {
+            return remote;
+        }
+
+        @Override
+        public void onJobChanged(JobChangedEvent event) {
+            received.add(event.seq());
+        }
+
+        /** Waits for up to {@code count} seqs; returns fewer if they do not arrive in time. */
+        private List<Long> take(int count) throws InterruptedException {
+            List<Long> seqs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Long seq = received.poll(5, TimeUnit.SECONDS);
+                if (seq == null) {
+                    break;
+                }
+                seqs.add(seq);
+            }
+            return seqs;
+        }
+
+        private boolean nothingMore() throws InterruptedException {
+            return received.poll(200, TimeUnit.MILLISECONDS) == null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.jobboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.jobboard.exception.OptimisticLockException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OptimisticUpdateRetrierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticUpdateRetrier retrier =
+            new OptimisticUpdateRetrier(mock(PlatformTransactionManager.class), meterRegistry, 3);
+    private final Table table = new Table(Map.of("title", "Engineer", "salary", 100));
+
+    @Test
+    void updateWithoutContentionIsAppliedOnce() {
+        Map<String, Object> result = update(Map.of("title", "Senior Engineer"));
+
+        assertThat(result).containsEntry("title", "Senior Engineer").containsEntry("salary", 100);
+        assertThat(table.attempts).hasValue(1);
+    }
+
+    @Test
+    void concurrentChangeToOtherFieldsIsMerged() {
+        table.concurrentWrite = Map.of("salary", 120);
+
+        Map<String, Object> result = update(Map.of("title", "Senior Engineer"));
+
+        assertThat(result).containsEntry("title", "Senior Engineer").containsEntry("salary", 120);
+        assertThat(table.attempts).hasValue(2);
+        assertThat(retries("merged")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentChangeToRequestedFieldIsConflict() {
+        table.concurrentWrite = Map.of("title", "Staff Engineer");
+
+        assertThatThrownBy(() -> update(Map.of("title", "Senior Engineer")))
+                .isInstanceOf(OptimisticLockException.class)
+                .hasMessageContaining("title");
+        assertThat(table.fields).containsEntry("title", "Staff Engineer");
+        assertThat(retries("conflict")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentWriteOfTheSameValueIsNotConflict() {
+        table.concurrentWrite = Map.of("title", "Senior Engineer");
+
+        Map<String, Object> result = update(Map.of("title", "Senior Engineer"));
+
+        assertThat(result).containsEntry("title", "Senior Engineer");
+        assertThat(retries("merged")).isEqualTo(1);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        table.alwaysStale = true;
+
+        assertThatThrownBy(() -> update(Map.of("title", "Senior Engineer")))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(table.attempts).hasValue(3);
+        assertThat(retries("exhausted")).isEqualTo(1);
+    }
+
+    private Map<String, Object> update(Map<String, Object> requested) {
+        return retrier.execute("job", requested, table::load, Row::fields, row -> table.write(row, requested));
+    }
+
+    private double retries(String outcome) {
+        return meterRegistry.counter("jobboard.optimistic.retries", "entity", "job", "outcome", outcome).count();
+    }
+
+    private record Row(Map<String, Object> fields, int version) {
+    }
+
+    /**
+     * A versioned row. {@code concurrentWrite} is committed by "another writer" between the first attempt's
+     * load and its write, which then fails its version check.
+     */
+    private static final class Table {
+
+        private final Map<String, Object> fields;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private int version;
+        private Map<String, Object> concurrentWrite;
+        private boolean alwaysStale;
+
+        private Table(Map<String, Object> fields) {
+            this.fields = new HashMap<>(fields);
+        }
+
+        private Row load() {
+            return new Row(Map.copyOf(fields), version);
+        }
+
+        private Map<String, Object> write(Row loaded, Map<String, Object> requested) {
+            attempts.incrementAndGet();
+            if (concurrentWrite != null) {
+                fields.putAll(concurrentWrite);
+                version++;
+                concurrentWrite = null;
+            }
+            if (alwaysStale || loaded.version() != version) {
+                throw new OptimisticLockingFailureException("Row was updated by another transaction");
+            }
+            fields.putAll(requested);
+            version++;
+            return Map.copyOf(fields);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.jobboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jobboard.datasource.RoutingContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch leaderLoading = new CountDownLatch(1);
+    private final CountDownLatch releaseLeader = new CountDownLatch(1);
+
+    @AfterEach
+    void stopCallers() {
+        releaseLeader.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        RequestCoalescer coalescer = coalescer(10_000, Duration.ofSeconds(5));
+        Future<String> leader = callers.submit(() -> coalescer.execute("job.byId", 1L, blockingLoad("job-1")));
+        assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            followers.add(callers.submit(() -> coalescer.execute("job.byId", 1L, () -> load("unexpected"))));
+        }
+        awaitCoalesced("job.byId", 8);
+        releaseLeader.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("job-1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("job-1");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void leaderFailureIsRethrownToFollowersAndNotRemembered() throws Exception {
+        RequestCoalescer coalescer = coalescer(10_000, Duration.ofSeconds(5));
+        Supplier<String> failing = () -> {
+            blockingLoad("never").get();
+            throw new IllegalStateException("database unavailable");
+        };
+        Future<String> leader = callers.submit(() -> coalescer.execute("job.byId", 2L, failing));
+        assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = callers.submit(() -> coalescer.execute("job.byId", 2L, () -> load("unexpected")));
+        awaitCoalesced("job.byId", 1);
+        releaseLeader.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("database unavailable");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("database unavailable");
+
+        assertThat(coalescer.execute("job.byId", 2L, () -> load("job-2"))).isEqualTo("job-2");
+    }
+
+    @Test
+    void followerLoadsForItselfAfterMaxWait() throws Exception {
+        RequestCoalescer coalescer = coalescer(10_000, Duration.ofMillis(50));
+        callers.submit(() -> coalescer.execute("job.byId", 3L, blockingLoad("slow")));
+        assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        String result = coalescer.execute("job.byId", 3L, () -> load("own"));
+
+        assertThat(result).isEqualTo("own");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void primaryPinnedCallersDoNotJoinReplicaLeader() throws Exception {
+        RequestCoalescer coalescer = coalescer(10_000, Duration.ofSeconds(5));
+        callers.submit(() -> coalescer.execute("job.byId", 4L, blockingLoad("replica")));
+        assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RoutingContext.forcePrimary();
+        try {
+            assertThat(coalescer.execute("job.byId", 4L, () -> load("primary"))).isEqualTo("primary");
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+
+    @Test
+    void distinctKeysBypassCoalescingWhenTableIsFull() throws Exception {
+        RequestCoalescer coalescer = coalescer(1, Duration.ofSeconds(5));
+        callers.submit(() -> coalescer.execute("job.byId", 5L, blockingLoad("held")));
+        assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(coalescer.execute("job.byId", 6L, () -> load("direct"))).isEqualTo("direct");
+        assertThat(meterRegistry.counter("jobboard.coalescing.calls", "operation", "job.byId", "result", "bypassed")
+                .count()).isEqualTo(1);
+    }
+
+    private RequestCoalescer coalescer(int maxKeys, Duration maxWait) {
+        return new RequestCoalescer(meterRegistry, maxKeys, maxWait);
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    /** A load that signals it has started and then waits to be released. */
+    private Supplier<String> blockingLoad(String value) {
+        return () -> {
+            leaderLoading.countDown();
+            try {
+                releaseLeader.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(value);
+        };
+    }
+
+    private void awaitCoalesced(String operation, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("jobboard.coalescing.calls", "operation", operation, "result", "coalesced")
+                .count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
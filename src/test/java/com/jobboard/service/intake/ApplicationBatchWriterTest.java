@@ -0,0 +1,175 @@
+package com.jobboard.service.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jobboard.exception.DuplicateApplicationException;
+import com.jobboard.exception.IntakeOverloadedException;
+import com.jobboard.model.entity.Application;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class ApplicationBatchWriterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final FakeDatabase database = new FakeDatabase();
+    private ApplicationBatchWriter writer;
+
+    @AfterEach
+    void stopWriter() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void queuedApplicationsAreWrittenInOneStatement() {
+        writer = writer(100);
+        CompletableFuture<Application> first = writer.submit(application(1L, "a@example.com"));
+        CompletableFuture<Application> second = writer.submit(application(2L, "a@example.com"));
+        writer.run(null);
+
+        assertThat(first).succeedsWithin(TIMEOUT).extracting(Application::getId).isNotNull();
+        assertThat(second).succeedsWithin(TIMEOUT).extracting(Application::getId).isNotNull();
+        assertThat(database.statements).hasValue(1);
+    }
+
+    @Test
+    void alreadyStoredPairCompletesWithDuplicate() {
+        database.stored.add(new Pair(1L, "a@example.com"));
+        writer = writer(100);
+        CompletableFuture<Application> duplicate = writer.submit(application(1L, "a@example.com"));
+        CompletableFuture<Application> fresh = writer.submit(application(1L, "b@example.com"));
+        writer.run(null);
+
+        assertThat(duplicate).failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(DuplicateApplicationException.class);
+        assertThat(fresh).succeedsWithin(TIMEOUT).extracting(Application::getId).isNotNull();
+    }
+
+    @Test
+    void repeatedPairWithinOneBatchIsStoredOnce() {
+        writer = writer(100);
+        CompletableFuture<Application> first = writer.submit(application(3L, "c@example.com"));
+        CompletableFuture<Application> repeat = writer.submit(application(3L, "c@example.com"));
+        writer.run(null);
+
+        assertThat(first).succeedsWithin(TIMEOUT).extracting(Application::getId).isNotNull();
+        assertThat(repeat).failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(DuplicateApplicationException.class);
+    }
+
+    @Test
+    void failedWriteFailsEveryApplicationInTheBatch() {
+        database.failure = new DataAccessResourceFailureException("connection refused");
+        writer = writer(100);
+        CompletableFuture<Application> first = writer.submit(application(4L, "d@example.com"));
+        CompletableFuture<Application> second = writer.submit(application(5L, "e@example.com"));
+        writer.run(null);
+
+        assertThat(first).failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(second).failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    void fullQueueIsReportedToTheCaller() {
+        writer = writer(1);
+        writer.submit(application(6L, "f@example.com"));
+
+        assertThatThrownBy(() -> writer.submit(application(7L, "g@example.com")))
+                .isInstanceOf(IntakeOverloadedException.class);
+    }
+
+    private ApplicationBatchWriter writer(int queueCapacity) {
+        return new ApplicationBatchWriter(database, new SimpleMeterRegistry(), queueCapacity, 500,
+                Duration.ofMillis(5), Duration.ofSeconds(5));
+    }
+
+    private static Application application(Long jobId, String email) {
+        Application application = new Application();
+        application.setJobId(jobId);
+        application.setApplicantEmail(email);
+        application.setApplicantName("Applicant");
+        return application;
+    }
+
+    private record Pair(Long jobId, String applicantEmail) {
+    }
+
+    /**
+     * Stands in for the batch statement: reads the bound job id and email arrays, inserts the pairs it has not
+     * seen (first occurrence wins, as with {@code ON CONFLICT DO NOTHING}) and returns one row per insert.
+     */
+    private static final class FakeDatabase extends JdbcTemplate {
+
+        private final Set<Pair> stored = ConcurrentHashMap.newKeySet();
+        private final AtomicLong ids = new AtomicLong();
+        private final AtomicInteger statements = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        @Override
+        public void query(PreparedStatementCreator creator, RowCallbackHandler handler) {
+            statements.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                List<Object[]> arrays = new ArrayList<>();
+                Connection connection = mock(Connection.class);
+                when(connection.createArrayOf(anyString(), any())).thenAnswer(invocation -> {
+                    arrays.add(invocation.getArgument(1));
+                    return mock(Array.class);
+                });
+                when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+                creator.createPreparedStatement(connection);
+                Object[] jobIds = arrays.get(0);
+                Object[] emails = arrays.get(1);
+                for (int i = 0; i < jobIds.length; i++) {
+                    if (stored.add(new Pair((Long) jobIds[i], (String) emails[i]))) {
+                        handler.processRow(row(ids.incrementAndGet(), (Long) jobIds[i], (String) emails[i]));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static ResultSet row(long id, Long jobId, String email) throws SQLException {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getLong("id")).thenReturn(id);
+            when(row.getLong("job_id")).thenReturn(jobId);
+            when(row.getString("applicant_email")).thenReturn(email);
+            return row;
+        }
+    }
+}
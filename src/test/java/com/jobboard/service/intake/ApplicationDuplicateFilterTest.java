@@ -0,0 +1,115 @@
+package com.jobboard.service.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobboard.repository.ApplicationKeyView;
+import com.jobboard.repository.ApplicationRepository;
+import com.jobboard.util.BloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ApplicationDuplicateFilterTest {
+
+    private final ApplicationRepository repository = mock(ApplicationRepository.class);
+    private final ApplicationDuplicateFilter filter =
+            new ApplicationDuplicateFilter(repository, new SimpleMeterRegistry(), 1000, 0.01);
+
+    @Test
+    void storedPairsAreFoundAfterLoading() {
+        ApplicationDuplicateFilter.Key stored = new ApplicationDuplicateFilter.Key(1L, "a@example.com");
+        ApplicationKeyView view = keyView(10L, stored);
+        when(repository.findNextKeyChunk(any(), any())).thenReturn(List.of(view)).thenReturn(List.of());
+        when(repository.existsByJobIdAndApplicantEmail(1L, "a@example.com")).thenReturn(true);
+        filter.run(null);
+
+        assertThat(filter.tryReserve(stored)).isFalse();
+    }
+
+    @Test
+    void newPairIsAcceptedWithoutQueryOnceLoaded() {
+        when(repository.findNextKeyChunk(any(), any())).thenReturn(List.of());
+        filter.run(null);
+
+        assertThat(filter.tryReserve(new ApplicationDuplicateFilter.Key(2L, "b@example.com"))).isTrue();
+        verify(repository, never()).existsByJobIdAndApplicantEmail(anyLong(), anyString());
+    }
+
+    @Test
+    void checksDatabaseUntilLoaded() {
+        ApplicationDuplicateFilter.Key key = new ApplicationDuplicateFilter.Key(3L, "c@example.com");
+        when(repository.existsByJobIdAndApplicantEmail(3L, "c@example.com")).thenReturn(true);
+
+        assertThat(filter.tryReserve(key)).isFalse();
+        assertThat(filter.tryReserve(new ApplicationDuplicateFilter.Key(3L, "d@example.com"))).isTrue();
+    }
+
+    @Test
+    void pairInFlightCannotBeReservedTwice() {
+        when(repository.findNextKeyChunk(any(), any())).thenReturn(List.of());
+        filter.run(null);
+        ApplicationDuplicateFilter.Key key = new ApplicationDuplicateFilter.Key(4L, "e@example.com");
+
+        assertThat(filter.tryReserve(key)).isTrue();
+        assertThat(filter.tryReserve(key)).isFalse();
+    }
+
+    @Test
+    void failedWriteReleasesPairForRetry() {
+        when(repository.findNextKeyChunk(any(), any())).thenReturn(List.of());
+        filter.run(null);
+        ApplicationDuplicateFilter.Key key = new ApplicationDuplicateFilter.Key(5L, "f@example.com");
+
+        assertThat(filter.tryReserve(key)).isTrue();
+        filter.release(key, false);
+
+        assertThat(filter.tryReserve(key)).isTrue();
+        verify(repository, never()).existsByJobIdAndApplicantEmail(anyLong(), anyString());
+    }
+
+    @Test
+    void storedPairIsRejectedAfterRelease() {
+        when(repository.findNextKeyChunk(any(), any())).thenReturn(List.of());
+        filter.run(null);
+        ApplicationDuplicateFilter.Key key = new ApplicationDuplicateFilter.Key(6L, "g@example.com");
+        when(repository.existsByJobIdAndApplicantEmail(6L, "g@example.com")).thenReturn(true);
+
+        assertThat(filter.tryReserve(key)).isTrue();
+        filter.release(key, true);
+
+        assertThat(filter.tryReserve(key)).isFalse();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter bloom = new BloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            bloom.put(new ApplicationDuplicateFilter.Key(i, "applicant@example.com").hash());
+        }
+        int falsePositives = 0;
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(bloom.mightContain(new ApplicationDuplicateFilter.Key(i, "applicant@example.com").hash()))
+                    .isTrue();
+            if (bloom.mightContain(new ApplicationDuplicateFilter.Key(i, "other@example.com").hash())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private static ApplicationKeyView keyView(Long id, ApplicationDuplicateFilter.Key key) {
+        ApplicationKeyView view = mock(ApplicationKeyView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getJobId()).thenReturn(key.jobId());
+        when(view.getApplicantEmail()).thenReturn(key.applicantEmail());
+        return view;
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobboard.service.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class JobStreamSubscriberTest {
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void stopSender() {
+        sender.shutdownNow();
+    }
+
+    @Test
+    void sendBlockedPastTheTimeoutIsAborted() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        CountDownLatch sending = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new IOException("write aborted", e);
+            }
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        JobStreamSubscriber subscriber = new JobStreamSubscriber(emitter, new JobStreamFilter(null, null, null), 8);
+        subscriber.markHeartbeatDue();
+        assertThat(subscriber.trySchedule()).isTrue();
+
+        Future<?> drain = sender.submit(() -> {
+            subscriber.drain();
+            return null;
+        });
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(subscriber.abortIfStuck(System.nanoTime(), TimeUnit.HOURS.toNanos(1))).isFalse();
+        assertThat(subscriber.abortIfStuck(System.nanoTime(), 0)).isTrue();
+        assertThatThrownBy(() -> drain.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(subscriber.isClosed()).isTrue();
+    }
+
+    @Test
+    void idleSubscriberIsNeverAborted() {
+        JobStreamSubscriber subscriber =
+                new JobStreamSubscriber(mock(SseEmitter.class), new JobStreamFilter(null, null, null), 8);
+
+        assertThat(subscriber.abortIfStuck(System.nanoTime(), 0)).isFalse();
+        assertThat(subscriber.isClosed()).isFalse();
+    }
+}